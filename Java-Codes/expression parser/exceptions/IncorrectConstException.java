@@ -1,7 +1,7 @@
 package expression.exceptions;
 
 public class IncorrectConstException extends ParsingException {
-    public IncorrectConstException(String s, String expression, int pos) {
+    public IncorrectConstException(String s, CharSequence expression, int pos) {
         super(s, expression, pos);
     }
 }
@@ -1,7 +1,7 @@
 package expression.exceptions;
 
 public class MissingOperandException extends ParsingException {
-    public MissingOperandException(String expression, int pos) {
+    public MissingOperandException(CharSequence expression, int pos) {
         super("Missing operand in expression", expression, pos);
     }
 }
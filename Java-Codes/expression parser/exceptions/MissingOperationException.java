@@ -1,7 +1,7 @@
 package expression.exceptions;
 
 public class MissingOperationException extends ParsingException {
-    public MissingOperationException(String expression, int pos) {
+    public MissingOperationException(CharSequence expression, int pos) {
         super("Missing operation in expression", expression, pos);
     }
 }
@@ -1,7 +1,7 @@
 package expression.exceptions;
 
 public class ParsingException extends Exception {
-    public ParsingException(String reason, String expression, int pos) {
+    public ParsingException(String reason, CharSequence expression, int pos) {
         super(reason);
         System.out.printf("%s at index %d:\n", reason, pos + 1);
         int l = Integer.max(0, pos - 5), r = Integer.min(expression.length(), pos + 5);
@@ -1,7 +1,7 @@
 package expression.exceptions;
 
 public class UnknownOperationException extends ParsingException {
-    public UnknownOperationException(String s, String expession, int pos) {
+    public UnknownOperationException(String s, CharSequence expession, int pos) {
         super(s, expession, pos);
     }
 }
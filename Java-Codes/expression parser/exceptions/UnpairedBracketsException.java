@@ -1,7 +1,7 @@
 package expression.exceptions;
 
 public class UnpairedBracketsException extends ParsingException {
-    public UnpairedBracketsException(String s, String expression, int pos) {
+    public UnpairedBracketsException(String s, CharSequence expression, int pos) {
         super(s, expression, pos);
     }
 }
@@ -2,6 +2,8 @@ package expression;
 
 import expression.exceptions.OverflowException;
 
+import java.util.BitSet;
+
 public class Abs extends AbstractUnaryOperation {
     public Abs(TripleExpression a) {
         super(a);
@@ -14,4 +16,13 @@ public class Abs extends AbstractUnaryOperation {
         }
         return x;
     }
+
+    protected void calc(int[] x, BitSet errors) {
+        for (int i = 0; i < x.length; ++i) {
+            if (x[i] == Integer.MIN_VALUE) {
+                errors.set(i);
+            }
+            x[i] = Math.abs(x[i]);
+        }
+    }
 }
@@ -3,12 +3,24 @@ package expression;
 import expression.exceptions.EvaluatingException;
 import expression.exceptions.ParsingException;
 
+import java.util.BitSet;
+
 public abstract class AbstractBinaryOperation implements TripleExpression {
     private TripleExpression first, second;
+    private int hash;
 
     AbstractBinaryOperation(TripleExpression a, TripleExpression b) {
         first = a;
         second = b;
+        hash = (getClass().hashCode() * 31 + a.hashCode()) * 31 + b.hashCode();
+    }
+
+    TripleExpression getFirst() {
+        return first;
+    }
+
+    TripleExpression getSecond() {
+        return second;
     }
 
     protected abstract int calc(int x, int y) throws EvaluatingException, ParsingException;
@@ -16,4 +28,40 @@ public abstract class AbstractBinaryOperation implements TripleExpression {
     public int evaluate(int x, int y, int z) throws EvaluatingException, ParsingException {
         return calc(first.evaluate(x, y, z), second.evaluate(x, y, z));
     }
+
+    public int evaluate(int[] variables) throws EvaluatingException, ParsingException {
+        return calc(first.evaluate(variables), second.evaluate(variables));
+    }
+
+    protected void calc(int[] x, int[] y, BitSet errors) throws ParsingException {
+        for (int i = 0; i < x.length; ++i) {
+            try {
+                x[i] = calc(x[i], y[i]);
+            } catch (EvaluatingException e) {
+                errors.set(i);
+            }
+        }
+    }
+
+    public void evaluate(int[] xs, int[] ys, int[] zs, int[] out, BitSet errors) throws ParsingException {
+        int[] right = new int[out.length];
+        first.evaluate(xs, ys, zs, out, errors);
+        second.evaluate(xs, ys, zs, right, errors);
+        calc(out, right, errors);
+    }
+
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+        AbstractBinaryOperation other = (AbstractBinaryOperation) o;
+        return hash == other.hash && first.equals(other.first) && second.equals(other.second);
+    }
+
+    public int hashCode() {
+        return hash;
+    }
 }
@@ -3,11 +3,19 @@ package expression;
 import expression.exceptions.EvaluatingException;
 import expression.exceptions.ParsingException;
 
+import java.util.BitSet;
+
 public abstract class AbstractUnaryOperation implements TripleExpression {
     private TripleExpression first;
+    private int hash;
 
     AbstractUnaryOperation(TripleExpression a) {
         first = a;
+        hash = getClass().hashCode() * 31 + a.hashCode();
+    }
+
+    TripleExpression getFirst() {
+        return first;
     }
 
     protected abstract int calc(int x) throws ParsingException, EvaluatingException;
@@ -16,4 +24,37 @@ public abstract class AbstractUnaryOperation implements TripleExpression {
         return calc(first.evaluate(x, y, z));
     }
 
+    public int evaluate(int[] variables) throws ParsingException, EvaluatingException {
+        return calc(first.evaluate(variables));
+    }
+
+    protected void calc(int[] x, BitSet errors) throws ParsingException {
+        for (int i = 0; i < x.length; ++i) {
+            try {
+                x[i] = calc(x[i]);
+            } catch (EvaluatingException e) {
+                errors.set(i);
+            }
+        }
+    }
+
+    public void evaluate(int[] xs, int[] ys, int[] zs, int[] out, BitSet errors) throws ParsingException {
+        first.evaluate(xs, ys, zs, out, errors);
+        calc(out, errors);
+    }
+
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+        AbstractUnaryOperation other = (AbstractUnaryOperation) o;
+        return hash == other.hash && first.equals(other.first);
+    }
+
+    public int hashCode() {
+        return hash;
+    }
 }
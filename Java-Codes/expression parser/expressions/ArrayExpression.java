@@ -0,0 +1,11 @@
+package expression;
+
+import expression.exceptions.EvaluatingException;
+import expression.exceptions.ParsingException;
+
+/**
+ * Expression over any number of variables, each bound to a slot of the {@code variables} array at parse time.
+ */
+public interface ArrayExpression {
+    int evaluate(int[] variables) throws EvaluatingException, ParsingException;
+}
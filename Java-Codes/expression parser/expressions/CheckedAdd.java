@@ -2,6 +2,8 @@ package expression;
 
 import expression.exceptions.OverflowException;
 
+import java.util.BitSet;
+
 public class CheckedAdd extends AbstractBinaryOperation {
     public CheckedAdd(TripleExpression a, TripleExpression b) {
         super(a, b);
@@ -11,4 +13,14 @@ public class CheckedAdd extends AbstractBinaryOperation {
         Checkers.checkAdd(x, y);
         return x + y;
     }
+
+    protected void calc(int[] x, int[] y, BitSet errors) {
+        for (int i = 0; i < x.length; ++i) {
+            int r = x[i] + y[i];
+            if (((x[i] ^ r) & (y[i] ^ r)) < 0) {
+                errors.set(i);
+            }
+            x[i] = r;
+        }
+    }
 }
@@ -3,6 +3,8 @@ package expression;
 import expression.exceptions.DivisionByZeroException;
 import expression.exceptions.OverflowException;
 
+import java.util.BitSet;
+
 public class CheckedDivide extends AbstractBinaryOperation {
     public CheckedDivide(TripleExpression a, TripleExpression b) {
         super(a, b);
@@ -12,4 +14,15 @@ public class CheckedDivide extends AbstractBinaryOperation {
         Checkers.checkDivide(x, y);
         return x / y;
     }
+
+    protected void calc(int[] x, int[] y, BitSet errors) {
+        for (int i = 0; i < x.length; ++i) {
+            if (y[i] == 0 || (x[i] == Integer.MIN_VALUE && y[i] == -1)) {
+                errors.set(i);
+                x[i] = 0;
+            } else {
+                x[i] /= y[i];
+            }
+        }
+    }
 }
@@ -2,6 +2,8 @@ package expression;
 
 import expression.exceptions.OverflowException;
 
+import java.util.BitSet;
+
 public class CheckedMultiply extends AbstractBinaryOperation {
     public CheckedMultiply(TripleExpression a, TripleExpression b) {
         super(a, b);
@@ -11,4 +13,14 @@ public class CheckedMultiply extends AbstractBinaryOperation {
         Checkers.checkMultiply(x, y);
         return x * y;
     }
+
+    protected void calc(int[] x, int[] y, BitSet errors) {
+        for (int i = 0; i < x.length; ++i) {
+            long r = (long) x[i] * y[i];
+            if ((int) r != r) {
+                errors.set(i);
+            }
+            x[i] = (int) r;
+        }
+    }
 }
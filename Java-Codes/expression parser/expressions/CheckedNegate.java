@@ -2,6 +2,8 @@ package expression;
 
 import expression.exceptions.OverflowException;
 
+import java.util.BitSet;
+
 public class CheckedNegate extends AbstractUnaryOperation {
     public CheckedNegate(TripleExpression a) {
         super(a);
@@ -11,4 +13,13 @@ public class CheckedNegate extends AbstractUnaryOperation {
         Checkers.checkNegate(x);
         return -x;
     }
+
+    protected void calc(int[] x, BitSet errors) {
+        for (int i = 0; i < x.length; ++i) {
+            if (x[i] == Integer.MIN_VALUE) {
+                errors.set(i);
+            }
+            x[i] = -x[i];
+        }
+    }
 }
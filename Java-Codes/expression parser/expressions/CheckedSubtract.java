@@ -2,6 +2,8 @@ package expression;
 
 import expression.exceptions.OverflowException;
 
+import java.util.BitSet;
+
 public class CheckedSubtract extends AbstractBinaryOperation {
     public CheckedSubtract(TripleExpression a, TripleExpression b) {
         super(a, b);
@@ -11,4 +13,14 @@ public class CheckedSubtract extends AbstractBinaryOperation {
         Checkers.checkSubtract(x, y);
         return x - y;
     }
+
+    protected void calc(int[] x, int[] y, BitSet errors) {
+        for (int i = 0; i < x.length; ++i) {
+            int r = x[i] - y[i];
+            if (((x[i] ^ y[i]) & (x[i] ^ r)) < 0) {
+                errors.set(i);
+            }
+            x[i] = r;
+        }
+    }
 }
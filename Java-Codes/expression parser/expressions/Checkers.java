@@ -4,69 +4,60 @@ import expression.exceptions.*;
 
 class Checkers {
 
+    private static final OverflowException MULTIPLY_OVERFLOW = new OverflowException("Overflow when multiplying");
+    private static final OverflowException ADD_OVERFLOW = new OverflowException("Overflow when adding");
+    private static final DivisionByZeroException DIVISION_BY_ZERO = new DivisionByZeroException();
+    private static final OverflowException DIVIDE_OVERFLOW = new OverflowException("Overflow when dividing");
+    private static final OverflowException NEGATE_OVERFLOW = new OverflowException("Overflow when negating");
+    private static final OverflowException SUBTRACT_OVERFLOW = new OverflowException("Overflow when subtracting");
+    private static final OverflowException ABS_OVERFLOW = new OverflowException("Absolute value overflow");
+    private static final NegativeSqrtException NEGATIVE_SQRT = new NegativeSqrtException("Sqrt from negative number");
+
     static void checkMultiply(int x, int y) throws OverflowException {
-        if (x < 0 && y < 0 && x < Integer.MAX_VALUE / y) {
-            throw new OverflowException("Overflow when multiplying");
-        }
-        if (x < 0 && y > 0 && x < Integer.MIN_VALUE / y) {
-            throw new OverflowException("Overflow when multiplying");
-        }
-        if (x > 0 && y < 0 && y < Integer.MIN_VALUE / x) {
-            throw new OverflowException("Overflow when multiplying");
-        }
-        if (x > 0 && y > 0 && x > Integer.MAX_VALUE / y) {
-            throw new OverflowException("Overflow when multiplying");
+        long r = (long) x * y;
+        if ((int) r != r) {
+            throw MULTIPLY_OVERFLOW;
         }
     }
 
     static void checkAdd(int x, int y) throws OverflowException {
-        if (y < 0) {
-            if (x < Integer.MIN_VALUE - y) {
-                throw new OverflowException("Overflow when adding");
-            }
-        } else {
-            if (x > Integer.MAX_VALUE - y) {
-                throw new OverflowException("Overflow when adding");
-            }
+        int r = x + y;
+        if (((x ^ r) & (y ^ r)) < 0) {
+            throw ADD_OVERFLOW;
         }
     }
 
     static void checkDivide(int x, int y) throws OverflowException, DivisionByZeroException {
         if (y == 0) {
-            throw new DivisionByZeroException();
+            throw DIVISION_BY_ZERO;
         }
         if (x == Integer.MIN_VALUE && y == -1) {
-            throw new OverflowException("Overflow when dividing");
+            throw DIVIDE_OVERFLOW;
         }
     }
 
     static void checkNegate(int x) throws OverflowException {
         if (x == Integer.MIN_VALUE) {
-            throw new OverflowException("Overflow when negating");
+            throw NEGATE_OVERFLOW;
         }
     }
 
     static void checkSubtract(int x, int y) throws OverflowException {
-        if (y < 0) {
-            if (x > Integer.MAX_VALUE + y) {
-                throw new OverflowException("Overflow when subtracting");
-            }
-        } else {
-            if (x < Integer.MIN_VALUE + y) {
-                throw new OverflowException("Overflow when subtracting");
-            }
+        int r = x - y;
+        if (((x ^ y) & (x ^ r)) < 0) {
+            throw SUBTRACT_OVERFLOW;
         }
     }
 
     static void checkAbs(int x) throws OverflowException {
         if (x == Integer.MIN_VALUE) {
-            throw new OverflowException("Absolute value overflow");
+            throw ABS_OVERFLOW;
         }
     }
 
     static void checkSqrt(int x) throws NegativeSqrtException {
         if (x < 0) {
-            throw new NegativeSqrtException("Sqrt from negative number");
+            throw NEGATIVE_SQRT;
         }
     }
 }
@@ -1,5 +1,8 @@
 package expression;
 
+import java.util.Arrays;
+import java.util.BitSet;
+
 public class Const implements TripleExpression {
     private int value;
 
@@ -7,8 +10,28 @@ public class Const implements TripleExpression {
         value = newVal;
     }
 
+    int getValue() {
+        return value;
+    }
+
     public int evaluate(int x, int y, int z) {
         return value;
     }
+
+    public int evaluate(int[] variables) {
+        return value;
+    }
+
+    public void evaluate(int[] xs, int[] ys, int[] zs, int[] out, BitSet errors) {
+        Arrays.fill(out, value);
+    }
+
+    public boolean equals(Object o) {
+        return o instanceof Const && value == ((Const) o).value;
+    }
+
+    public int hashCode() {
+        return Integer.hashCode(value);
+    }
 }
 
@@ -0,0 +1,121 @@
+package expression;
+
+import expression.exceptions.EvaluatingException;
+import expression.exceptions.ParsingException;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Evaluates every distinct subexpression once per call.
+ * Nodes are numbered in the order the tree interpreter first computes them,
+ * so the first failing operation is the same as for the tree.
+ * Values are kept in a buffer reused by every call on the same thread.
+ */
+public class DagExpression implements TripleExpression {
+    private static final int LEAF = 0, UNARY = 1, BINARY = 2;
+
+    private final TripleExpression[] nodes;
+    private final byte[] kinds;
+    private final int[] firsts, seconds;
+    private final ThreadLocal<int[]> values;
+
+    public DagExpression(TripleExpression expression) {
+        List<TripleExpression> order = new ArrayList<>();
+        Map<TripleExpression, Integer> slots = new HashMap<>();
+        number(expression, order, slots);
+        int n = order.size();
+        nodes = order.toArray(new TripleExpression[n]);
+        kinds = new byte[n];
+        firsts = new int[n];
+        seconds = new int[n];
+        for (int i = 0; i < n; ++i) {
+            if (nodes[i] instanceof AbstractBinaryOperation) {
+                AbstractBinaryOperation operation = (AbstractBinaryOperation) nodes[i];
+                kinds[i] = BINARY;
+                firsts[i] = slots.get(operation.getFirst());
+                seconds[i] = slots.get(operation.getSecond());
+            } else if (nodes[i] instanceof AbstractUnaryOperation) {
+                kinds[i] = UNARY;
+                firsts[i] = slots.get(((AbstractUnaryOperation) nodes[i]).getFirst());
+            } else {
+                kinds[i] = LEAF;
+            }
+        }
+        values = ThreadLocal.withInitial(() -> new int[n]);
+    }
+
+    /**
+     * Numbers the nodes in postorder with an explicit stack, so depth is not limited by the thread stack.
+     */
+    private static void number(TripleExpression expression, List<TripleExpression> order, Map<TripleExpression, Integer> slots) {
+        Deque<Object> pending = new ArrayDeque<>();
+        pending.push(expression);
+        while (!pending.isEmpty()) {
+            Object next = pending.pop();
+            if (next instanceof Children) {
+                TripleExpression node = ((Children) next).parent;
+                if (!slots.containsKey(node)) {
+                    slots.put(node, order.size());
+                    order.add(node);
+                }
+                continue;
+            }
+            TripleExpression node = (TripleExpression) next;
+            if (slots.containsKey(node)) {
+                continue;
+            }
+            pending.push(new Children(node));
+            if (node instanceof AbstractBinaryOperation) {
+                pending.push(((AbstractBinaryOperation) node).getSecond());
+                pending.push(((AbstractBinaryOperation) node).getFirst());
+            } else if (node instanceof AbstractUnaryOperation) {
+                pending.push(((AbstractUnaryOperation) node).getFirst());
+            }
+        }
+    }
+
+    public int size() {
+        return nodes.length;
+    }
+
+    public int evaluate(int x, int y, int z) throws EvaluatingException, ParsingException {
+        return evaluate(x, y, z, null);
+    }
+
+    public int evaluate(int[] variables) throws EvaluatingException, ParsingException {
+        return evaluate(0, 0, 0, variables);
+    }
+
+    private int evaluate(int x, int y, int z, int[] variables) throws EvaluatingException, ParsingException {
+        int[] values = this.values.get();
+        for (int i = 0; i < nodes.length; ++i) {
+            switch (kinds[i]) {
+                case BINARY:
+                    values[i] = ((AbstractBinaryOperation) nodes[i]).calc(values[firsts[i]], values[seconds[i]]);
+                    break;
+                case UNARY:
+                    values[i] = ((AbstractUnaryOperation) nodes[i]).calc(values[firsts[i]]);
+                    break;
+                default:
+                    values[i] = variables == null ? nodes[i].evaluate(x, y, z) : nodes[i].evaluate(variables);
+            }
+        }
+        return values[nodes.length - 1];
+    }
+
+    /**
+     * Marks that the operands of {@code parent} are numbered.
+     */
+    private static class Children {
+        final TripleExpression parent;
+
+        Children(TripleExpression parent) {
+            this.parent = parent;
+        }
+    }
+}
@@ -0,0 +1,388 @@
+package expression;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Compiles an expression tree into a hidden class whose {@code evaluate} methods are straight-line bytecode.
+ * Both {@code evaluate(int, int, int)} and {@code evaluate(int[])} are generated, the latter reading
+ * every variable from its own slot, as {@link Variable} does.
+ * Every checked operation calls the same {@link Checkers} method as the tree node does,
+ * so overflow and division by zero are reported exactly as by the interpreter.
+ * Trees containing foreign nodes or too big for one method are returned unchanged.
+ */
+public class ExpressionCompiler {
+    private static final String CHECKERS = "expression/Checkers";
+    private static final int MAX_CODE_LENGTH = 65535;
+
+    private static final int ICONST_0 = 0x03;
+    private static final int BIPUSH = 0x10;
+    private static final int SIPUSH = 0x11;
+    private static final int LDC = 0x12;
+    private static final int LDC_W = 0x13;
+    private static final int ILOAD_1 = 0x1b;
+    private static final int ALOAD_0 = 0x2a;
+    private static final int ALOAD_1 = 0x2b;
+    private static final int IALOAD = 0x2e;
+    private static final int DUP = 0x59;
+    private static final int DUP2 = 0x5c;
+    private static final int IADD = 0x60;
+    private static final int ISUB = 0x64;
+    private static final int IMUL = 0x68;
+    private static final int IDIV = 0x6c;
+    private static final int INEG = 0x74;
+    private static final int IRETURN = 0xac;
+    private static final int RETURN = 0xb1;
+    private static final int INVOKESPECIAL = 0xb7;
+    private static final int INVOKESTATIC = 0xb8;
+
+    private final ConstantPool pool = new ConstantPool();
+    private final ByteArrayOutputStream code = new ByteArrayOutputStream();
+    private boolean fromArray;
+    private int depth, maxStack;
+
+    private ExpressionCompiler() {
+    }
+
+    public static TripleExpression compile(TripleExpression expression) {
+        byte[] bytes = new ExpressionCompiler().generate(expression);
+        if (bytes == null) {
+            return expression;
+        }
+        try {
+            MethodHandles.Lookup lookup = MethodHandles.lookup().defineHiddenClass(bytes, true);
+            return (TripleExpression) lookup.findConstructor(lookup.lookupClass(), MethodType.methodType(void.class)).invoke();
+        } catch (Throwable e) {
+            throw new IllegalStateException("Can't define compiled expression", e);
+        }
+    }
+
+    private byte[] generate(TripleExpression expression) {
+        byte[] triple = body(expression, false);
+        int tripleStack = maxStack;
+        byte[] array = triple == null ? null : body(expression, true);
+        if (array == null) {
+            return null;
+        }
+        int arrayStack = maxStack;
+
+        int thisClass = pool.classRef("expression/CompiledExpression");
+        int superClass = pool.classRef("java/lang/Object");
+        int tripleExpression = pool.classRef("expression/TripleExpression");
+        int objectInit = pool.methodRef("java/lang/Object", "<init>", "()V");
+        int codeName = pool.utf8("Code");
+        int initName = pool.utf8("<init>");
+        int initType = pool.utf8("()V");
+        int evaluateName = pool.utf8("evaluate");
+        int tripleType = pool.utf8("(III)I");
+        int arrayType = pool.utf8("([I)I");
+
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (DataOutputStream out = new DataOutputStream(bytes)) {
+            out.writeInt(0xCAFEBABE);
+            out.writeShort(0);
+            out.writeShort(52);
+            pool.write(out);
+            out.writeShort(0x0010 | 0x0020);
+            out.writeShort(thisClass);
+            out.writeShort(superClass);
+            out.writeShort(1);
+            out.writeShort(tripleExpression);
+            out.writeShort(0);
+            out.writeShort(3);
+
+            byte[] init = {(byte) ALOAD_0, (byte) INVOKESPECIAL, (byte) (objectInit >> 8), (byte) objectInit, (byte) RETURN};
+            writeMethod(out, initName, initType, codeName, 1, 1, init);
+            writeMethod(out, evaluateName, tripleType, codeName, tripleStack, 4, triple);
+            writeMethod(out, evaluateName, arrayType, codeName, arrayStack, 2, array);
+
+            out.writeShort(0);
+        } catch (IOException e) {
+            throw new IllegalStateException(e);
+        }
+        return bytes.toByteArray();
+    }
+
+    /**
+     * Emits the code of one {@code evaluate} method, taking variables from the arguments
+     * or, with {@code fromArray} set, from the array argument. Returns {@code null} if the tree can't be compiled.
+     */
+    private byte[] body(TripleExpression expression, boolean fromArray) {
+        this.fromArray = fromArray;
+        code.reset();
+        depth = maxStack = 0;
+        if (!emit(expression)) {
+            return null;
+        }
+        code.write(IRETURN);
+        return code.size() > MAX_CODE_LENGTH ? null : code.toByteArray();
+    }
+
+    private static void writeMethod(DataOutputStream out, int name, int type, int codeName, int maxStack, int maxLocals, byte[] body) throws IOException {
+        out.writeShort(0x0001);
+        out.writeShort(name);
+        out.writeShort(type);
+        out.writeShort(1);
+        out.writeShort(codeName);
+        out.writeInt(12 + body.length);
+        out.writeShort(maxStack);
+        out.writeShort(maxLocals);
+        out.writeInt(body.length);
+        out.write(body);
+        out.writeShort(0);
+        out.writeShort(0);
+    }
+
+    /**
+     * Emits the tree in postorder with an explicit stack, so depth is not limited by the thread stack.
+     * Returns {@code false} as soon as an unknown node is met or the code gets longer than one method allows.
+     */
+    private boolean emit(TripleExpression expression) {
+        Deque<Object> pending = new ArrayDeque<>();
+        pending.push(expression);
+        while (!pending.isEmpty()) {
+            if (code.size() > MAX_CODE_LENGTH) {
+                return false;
+            }
+            Object next = pending.pop();
+            if (next instanceof Apply) {
+                TripleExpression operation = ((Apply) next).operation;
+                if (operation instanceof AbstractBinaryOperation ? !emitBinary((AbstractBinaryOperation) operation) : !emitUnary((AbstractUnaryOperation) operation)) {
+                    return false;
+                }
+            } else if (next instanceof Const) {
+                pushConst(((Const) next).getValue());
+            } else if (next instanceof Variable) {
+                pushVariable(((Variable) next).getSlot());
+            } else if (next instanceof AbstractBinaryOperation) {
+                AbstractBinaryOperation operation = (AbstractBinaryOperation) next;
+                pending.push(new Apply(operation));
+                pending.push(operation.getSecond());
+                pending.push(operation.getFirst());
+            } else if (next instanceof AbstractUnaryOperation) {
+                AbstractUnaryOperation operation = (AbstractUnaryOperation) next;
+                pending.push(new Apply(operation));
+                pending.push(operation.getFirst());
+            } else {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private boolean emitBinary(AbstractBinaryOperation operation) {
+        if (operation instanceof CheckedAdd) {
+            checked(DUP2, "checkAdd", IADD);
+        } else if (operation instanceof CheckedSubtract) {
+            checked(DUP2, "checkSubtract", ISUB);
+        } else if (operation instanceof CheckedMultiply) {
+            checked(DUP2, "checkMultiply", IMUL);
+        } else if (operation instanceof CheckedDivide) {
+            checked(DUP2, "checkDivide", IDIV);
+        } else if (operation instanceof Min) {
+            invokeStatic("java/lang/Math", "min", "(II)I", -1);
+        } else if (operation instanceof Max) {
+            invokeStatic("java/lang/Math", "max", "(II)I", -1);
+        } else {
+            return false;
+        }
+        return true;
+    }
+
+    private boolean emitUnary(AbstractUnaryOperation operation) {
+        if (operation instanceof CheckedNegate) {
+            checked(DUP, "checkNegate", INEG);
+        } else if (operation instanceof Abs) {
+            checked(DUP, "checkAbs", -1);
+            invokeStatic("java/lang/Math", "abs", "(I)I", 0);
+        } else if (operation instanceof Sqrt) {
+            invokeStatic("expression/Sqrt", "sqrt", "(I)I", 0);
+        } else if (operation instanceof High) {
+            invokeStatic("java/lang/Integer", "highestOneBit", "(I)I", 0);
+        } else if (operation instanceof Low) {
+            invokeStatic("java/lang/Integer", "lowestOneBit", "(I)I", 0);
+        } else {
+            return false;
+        }
+        return true;
+    }
+
+    private void checked(int dup, String checker, int operation) {
+        int arity = dup == DUP2 ? 2 : 1;
+        code.write(dup);
+        grow(arity);
+        invokeStatic(CHECKERS, checker, arity == 2 ? "(II)V" : "(I)V", -arity);
+        if (operation >= 0) {
+            code.write(operation);
+            grow(1 - arity);
+        }
+    }
+
+    private void invokeStatic(String owner, String name, String type, int stackChange) {
+        int index = pool.methodRef(owner, name, type);
+        code.write(INVOKESTATIC);
+        code.write(index >> 8);
+        code.write(index);
+        grow(stackChange);
+    }
+
+    private void pushVariable(int slot) {
+        if (slot < 0 || !fromArray && slot >= 3) {
+            code.write(ICONST_0);
+            grow(1);
+        } else if (!fromArray) {
+            code.write(ILOAD_1 + slot);
+            grow(1);
+        } else {
+            code.write(ALOAD_1);
+            grow(1);
+            pushConst(slot);
+            code.write(IALOAD);
+            grow(-1);
+        }
+    }
+
+    private void pushConst(int value) {
+        if (-1 <= value && value <= 5) {
+            code.write(ICONST_0 + value);
+        } else if (Byte.MIN_VALUE <= value && value <= Byte.MAX_VALUE) {
+            code.write(BIPUSH);
+            code.write(value);
+        } else if (Short.MIN_VALUE <= value && value <= Short.MAX_VALUE) {
+            code.write(SIPUSH);
+            code.write(value >> 8);
+            code.write(value);
+        } else {
+            int index = pool.integer(value);
+            if (index <= 0xff) {
+                code.write(LDC);
+                code.write(index);
+            } else {
+                code.write(LDC_W);
+                code.write(index >> 8);
+                code.write(index);
+            }
+        }
+        grow(1);
+    }
+
+    private void grow(int change) {
+        depth += change;
+        maxStack = Math.max(maxStack, depth);
+    }
+
+    private static class Apply {
+        final TripleExpression operation;
+
+        Apply(TripleExpression operation) {
+            this.operation = operation;
+        }
+    }
+
+    private static class ConstantPool {
+        private static final int UTF8 = 1, INTEGER = 3, CLASS = 7, METHOD_REF = 10, NAME_AND_TYPE = 12;
+
+        private final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        private final DataOutputStream out = new DataOutputStream(bytes);
+        private final Map<String, Integer> indices = new HashMap<>();
+        private int count = 1;
+
+        int utf8(String s) {
+            Integer index = indices.get("U" + s);
+            if (index == null) {
+                index = add("U" + s);
+                write(() -> {
+                    out.writeByte(UTF8);
+                    out.writeUTF(s);
+                });
+            }
+            return index;
+        }
+
+        int integer(int value) {
+            Integer index = indices.get("I" + value);
+            if (index == null) {
+                index = add("I" + value);
+                write(() -> {
+                    out.writeByte(INTEGER);
+                    out.writeInt(value);
+                });
+            }
+            return index;
+        }
+
+        int classRef(String name) {
+            Integer index = indices.get("C" + name);
+            if (index == null) {
+                int nameIndex = utf8(name);
+                index = add("C" + name);
+                write(() -> {
+                    out.writeByte(CLASS);
+                    out.writeShort(nameIndex);
+                });
+            }
+            return index;
+        }
+
+        int methodRef(String owner, String name, String type) {
+            String key = "M" + owner + "." + name + type;
+            Integer index = indices.get(key);
+            if (index == null) {
+                int ownerIndex = classRef(owner);
+                int nameAndType = nameAndType(name, type);
+                index = add(key);
+                write(() -> {
+                    out.writeByte(METHOD_REF);
+                    out.writeShort(ownerIndex);
+                    out.writeShort(nameAndType);
+                });
+            }
+            return index;
+        }
+
+        private int nameAndType(String name, String type) {
+            Integer index = indices.get("N" + name + type);
+            if (index == null) {
+                int nameIndex = utf8(name);
+                int typeIndex = utf8(type);
+                index = add("N" + name + type);
+                write(() -> {
+                    out.writeByte(NAME_AND_TYPE);
+                    out.writeShort(nameIndex);
+                    out.writeShort(typeIndex);
+                });
+            }
+            return index;
+        }
+
+        private int add(String key) {
+            indices.put(key, count);
+            return count++;
+        }
+
+        private void write(Entry entry) {
+            try {
+                entry.write();
+            } catch (IOException e) {
+                throw new IllegalStateException(e);
+            }
+        }
+
+        void write(DataOutputStream target) throws IOException {
+            out.flush();
+            target.writeShort(count);
+            bytes.writeTo(target);
+        }
+
+        private interface Entry {
+            void write() throws IOException;
+        }
+    }
+}
@@ -0,0 +1,151 @@
+package expression;
+
+import expression.exceptions.EvaluatingException;
+import expression.exceptions.ParsingException;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.IdentityHashMap;
+import java.util.Map;
+
+/**
+ * Folds constant subtrees and removes identity operations ({@code x + 0}, {@code x * 1}, ...).
+ * A constant subtree whose evaluation fails is kept as is, so it still throws when evaluated.
+ * The tree is walked in postorder with an explicit stack, and a node shared by several parents
+ * is optimized once, so the result shares it too.
+ */
+public class ExpressionOptimizer {
+    private ExpressionOptimizer() {
+    }
+
+    public static TripleExpression optimize(TripleExpression expression) {
+        Map<TripleExpression, TripleExpression> optimized = new IdentityHashMap<>();
+        Deque<Object> pending = new ArrayDeque<>();
+        Deque<TripleExpression> results = new ArrayDeque<>();
+        pending.push(expression);
+        while (!pending.isEmpty()) {
+            Object next = pending.pop();
+            if (next instanceof Operands) {
+                TripleExpression operation = ((Operands) next).operation;
+                TripleExpression res;
+                if (operation instanceof AbstractBinaryOperation) {
+                    TripleExpression second = results.pop();
+                    res = simplify((AbstractBinaryOperation) operation, results.pop(), second);
+                } else {
+                    res = fold(rebuild((AbstractUnaryOperation) operation, results.pop()));
+                }
+                optimized.put(operation, res);
+                results.push(res);
+                continue;
+            }
+            TripleExpression node = (TripleExpression) next;
+            TripleExpression done = optimized.get(node);
+            if (done != null) {
+                results.push(done);
+            } else if (node instanceof AbstractBinaryOperation) {
+                pending.push(new Operands(node));
+                pending.push(((AbstractBinaryOperation) node).getSecond());
+                pending.push(((AbstractBinaryOperation) node).getFirst());
+            } else if (node instanceof AbstractUnaryOperation) {
+                pending.push(new Operands(node));
+                pending.push(((AbstractUnaryOperation) node).getFirst());
+            } else {
+                results.push(node);
+            }
+        }
+        return results.pop();
+    }
+
+    private static TripleExpression simplify(AbstractBinaryOperation operation, TripleExpression first, TripleExpression second) {
+        if (isIdentity(operation, second)) {
+            return first;
+        }
+        if (isIdentity(operation, first) && (operation instanceof CheckedAdd || operation instanceof CheckedMultiply)) {
+            return second;
+        }
+        return fold(rebuild(operation, first, second));
+    }
+
+    private static boolean isIdentity(AbstractBinaryOperation operation, TripleExpression operand) {
+        if (!(operand instanceof Const)) {
+            return false;
+        }
+        int value = ((Const) operand).getValue();
+        if (operation instanceof CheckedAdd || operation instanceof CheckedSubtract) {
+            return value == 0;
+        }
+        if (operation instanceof CheckedMultiply || operation instanceof CheckedDivide) {
+            return value == 1;
+        }
+        return false;
+    }
+
+    private static TripleExpression fold(TripleExpression expression) {
+        if (expression instanceof AbstractBinaryOperation) {
+            AbstractBinaryOperation operation = (AbstractBinaryOperation) expression;
+            if (!(operation.getFirst() instanceof Const) || !(operation.getSecond() instanceof Const)) {
+                return expression;
+            }
+        } else if (expression instanceof AbstractUnaryOperation) {
+            if (!(((AbstractUnaryOperation) expression).getFirst() instanceof Const)) {
+                return expression;
+            }
+        } else {
+            return expression;
+        }
+        try {
+            return new Const(expression.evaluate(0, 0, 0));
+        } catch (EvaluatingException | ParsingException e) {
+            return expression;
+        }
+    }
+
+    private static TripleExpression rebuild(AbstractBinaryOperation operation, TripleExpression a, TripleExpression b) {
+        if (a == operation.getFirst() && b == operation.getSecond()) {
+            return operation;
+        }
+        if (operation instanceof CheckedAdd) {
+            return new CheckedAdd(a, b);
+        } else if (operation instanceof CheckedSubtract) {
+            return new CheckedSubtract(a, b);
+        } else if (operation instanceof CheckedMultiply) {
+            return new CheckedMultiply(a, b);
+        } else if (operation instanceof CheckedDivide) {
+            return new CheckedDivide(a, b);
+        } else if (operation instanceof Min) {
+            return new Min(a, b);
+        } else if (operation instanceof Max) {
+            return new Max(a, b);
+        }
+        return operation;
+    }
+
+    private static TripleExpression rebuild(AbstractUnaryOperation operation, TripleExpression a) {
+        if (a == operation.getFirst()) {
+            return operation;
+        }
+        if (operation instanceof CheckedNegate) {
+            return new CheckedNegate(a);
+        } else if (operation instanceof Abs) {
+            return new Abs(a);
+        } else if (operation instanceof Sqrt) {
+            return new Sqrt(a);
+        } else if (operation instanceof High) {
+            return new High(a);
+        } else if (operation instanceof Low) {
+            return new Low(a);
+        }
+        return operation;
+    }
+
+    /**
+     * Marks that the optimized operands of {@code operation} are on the result stack.
+     */
+    private static class Operands {
+        final TripleExpression operation;
+
+        Operands(TripleExpression operation) {
+            this.operation = operation;
+        }
+    }
+}
@@ -1,5 +1,7 @@
 package expression;
 
+import java.util.BitSet;
+
 public class Low extends AbstractUnaryOperation {
     public Low(TripleExpression a) {
         super(a);
@@ -8,4 +10,10 @@ public class Low extends AbstractUnaryOperation {
     public int calc(int x) {
         return Integer.lowestOneBit(x);
     }
+
+    protected void calc(int[] x, BitSet errors) {
+        for (int i = 0; i < x.length; ++i) {
+            x[i] = Integer.lowestOneBit(x[i]);
+        }
+    }
 }
@@ -1,5 +1,7 @@
 package expression;
 
+import java.util.BitSet;
+
 public class Min extends AbstractBinaryOperation {
     public Min(TripleExpression a, TripleExpression b) {
         super(a, b);
@@ -12,4 +14,10 @@ public class Min extends AbstractBinaryOperation {
             return y;
         }
     }
+
+    protected void calc(int[] x, int[] y, BitSet errors) {
+        for (int i = 0; i < x.length; ++i) {
+            x[i] = Math.min(x[i], y[i]);
+        }
+    }
 }
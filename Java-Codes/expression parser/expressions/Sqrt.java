@@ -2,22 +2,46 @@ package expression;
 
 import expression.exceptions.NegativeSqrtException;
 
+import java.util.BitSet;
+
 public class Sqrt extends AbstractUnaryOperation {
+    private static final byte[] SMALL_ROOTS = new byte[1 << 16];
+
+    static {
+        for (int i = 0; i < SMALL_ROOTS.length; ++i) {
+            SMALL_ROOTS[i] = (byte) Math.sqrt(i);
+        }
+    }
+
     public Sqrt(TripleExpression a) {
         super(a);
     }
 
     public int calc(int x) throws NegativeSqrtException {
-        Checkers.checkSqrt(x);
-        int l = 0, r = 46400;
-        while (r - l > 1) {
-            int m = l + (r - l) / 2;
-            if (m * m > x) {
-                r = m;
+        return sqrt(x);
+    }
+
+    protected void calc(int[] x, BitSet errors) {
+        for (int i = 0; i < x.length; ++i) {
+            if (x[i] < 0) {
+                errors.set(i);
+                x[i] = 0;
             } else {
-                l = m;
+                x[i] = floorSqrt(x[i]);
             }
         }
-        return l;
+    }
+
+    static int sqrt(int x) throws NegativeSqrtException {
+        Checkers.checkSqrt(x);
+        return floorSqrt(x);
+    }
+
+    private static int floorSqrt(int x) {
+        if (x < SMALL_ROOTS.length) {
+            return SMALL_ROOTS[x] & 0xff;
+        }
+        int r = (int) Math.sqrt(x);
+        return r * r > x ? r - 1 : r;
     }
 }
@@ -0,0 +1,91 @@
+package expression;
+
+import expression.exceptions.NegativeSqrtException;
+
+import java.util.BitSet;
+import java.util.Random;
+
+/**
+ * Exhaustively checks {@link Sqrt} against an exact floor square root for every non-negative {@code int},
+ * through both the scalar and the batch path, then times it against a binary search on random arguments.
+ * Exits with status 1 on any mismatch.
+ * Usage: {@code SqrtCheck [benchmark arguments] [benchmark rounds]}.
+ */
+public class SqrtCheck {
+    private static final int BATCH = 1 << 16;
+
+    public static void main(String[] args) throws NegativeSqrtException {
+        int count = args.length > 0 ? Integer.parseInt(args[0]) : 1 << 20;
+        int rounds = args.length > 1 ? Integer.parseInt(args[1]) : 10;
+
+        long mismatches = 0;
+        int root = 0;
+        int[] batch = new int[BATCH];
+        int[] expected = new int[BATCH];
+        BitSet errors = new BitSet(BATCH);
+        for (long start = 0; start <= Integer.MAX_VALUE; start += BATCH) {
+            for (int i = 0; i < BATCH; ++i) {
+                int x = (int) (start + i);
+                while ((long) (root + 1) * (root + 1) <= x) {
+                    ++root;
+                }
+                expected[i] = root;
+                batch[i] = x;
+                if (Sqrt.sqrt(x) != root) {
+                    if (mismatches++ < 10) {
+                        System.out.println("sqrt(" + x + ") = " + Sqrt.sqrt(x) + ", expected " + root);
+                    }
+                }
+            }
+            new Sqrt(new Const(0)).calc(batch, errors);
+            for (int i = 0; i < BATCH; ++i) {
+                if (batch[i] != expected[i]) {
+                    if (mismatches++ < 10) {
+                        System.out.println("batch sqrt(" + (start + i) + ") = " + batch[i] + ", expected " + expected[i]);
+                    }
+                }
+            }
+        }
+        if (!errors.isEmpty()) {
+            System.out.println("batch sqrt reported errors for non-negative arguments");
+            ++mismatches;
+        }
+        System.out.println("checked " + (Integer.MAX_VALUE + 1L) + " arguments: " + mismatches + " mismatches");
+
+        Random random = new Random(1);
+        int[] arguments = new int[count];
+        for (int i = 0; i < count; ++i) {
+            arguments[i] = random.nextBoolean() ? random.nextInt(1 << 16) : random.nextInt() >>> 1;
+        }
+        for (int round = 0; round < rounds; ++round) {
+            long sum = 0, time = System.nanoTime();
+            for (int x : arguments) {
+                sum += Sqrt.sqrt(x);
+            }
+            long table = System.nanoTime() - time;
+            time = System.nanoTime();
+            for (int x : arguments) {
+                sum -= binarySearchSqrt(x);
+            }
+            long search = System.nanoTime() - time;
+            System.out.printf("round %d: Sqrt %.1f ns, binary search %.1f ns per argument%s%n",
+                    round, (double) table / count, (double) search / count, sum == 0 ? "" : " (results differ)");
+        }
+        if (mismatches != 0) {
+            System.exit(1);
+        }
+    }
+
+    private static int binarySearchSqrt(int x) {
+        int l = 0, r = 46341;
+        while (r - l > 1) {
+            int m = (l + r) >>> 1;
+            if ((long) m * m <= x) {
+                l = m;
+            } else {
+                r = m;
+            }
+        }
+        return l;
+    }
+}
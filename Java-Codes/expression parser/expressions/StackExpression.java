@@ -0,0 +1,236 @@
+package expression;
+
+import expression.exceptions.EvaluatingException;
+import expression.exceptions.ParsingException;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Flat postfix form of an expression tree: an {@code int[]} of opcodes with a constant pool,
+ * run by a switch-based stack machine.
+ * Operations are applied in the same order and with the same checks as the tree,
+ * so the first failing operation is the same. Foreign nodes are kept and evaluated as leaves.
+ * The operand stack, sized when the code is built, is reused by every call on the same thread.
+ */
+public class StackExpression implements TripleExpression {
+    private static final int CONST = 0, VARIABLE = 1, ZERO = 2, NODE = 3;
+    private static final int ADD = 4, SUBTRACT = 5, MULTIPLY = 6, DIVIDE = 7, MIN = 8, MAX = 9;
+    private static final int NEGATE = 10, ABS = 11, SQRT = 12, HIGH = 13, LOW = 14;
+
+    private final int[] code;
+    private final int[] constants;
+    private final TripleExpression[] nodes;
+    private final int maxDepth, slots;
+    private final ThreadLocal<int[]> frames;
+
+    public StackExpression(TripleExpression expression) {
+        Builder builder = new Builder();
+        builder.emit(expression);
+        code = builder.code();
+        constants = builder.constants.stream().mapToInt(Integer::intValue).toArray();
+        nodes = builder.nodes.toArray(new TripleExpression[0]);
+        maxDepth = builder.maxDepth;
+        slots = Math.max(3, builder.slots);
+        frames = ThreadLocal.withInitial(() -> new int[slots + maxDepth]);
+    }
+
+    public int size() {
+        return code.length;
+    }
+
+    /**
+     * Variables go to the first {@code slots} cells of the frame, the operand stack follows them;
+     * variables beyond {@code z} stay zero.
+     */
+    public int evaluate(int x, int y, int z) throws EvaluatingException, ParsingException {
+        int[] frame = frames.get();
+        frame[0] = x;
+        frame[1] = y;
+        frame[2] = z;
+        return run(frame, frame);
+    }
+
+    public int evaluate(int[] variables) throws EvaluatingException, ParsingException {
+        return run(variables, frames.get());
+    }
+
+    private int run(int[] variables, int[] stack) throws EvaluatingException, ParsingException {
+        int top = slots - 1;
+        for (int pc = 0; pc < code.length; ++pc) {
+            int b;
+            switch (code[pc]) {
+                case CONST:
+                    stack[++top] = constants[code[++pc]];
+                    break;
+                case VARIABLE:
+                    stack[++top] = variables[code[++pc]];
+                    break;
+                case ZERO:
+                    stack[++top] = 0;
+                    break;
+                case NODE:
+                    stack[++top] = nodes[code[++pc]].evaluate(variables);
+                    break;
+                case ADD:
+                    b = stack[top--];
+                    Checkers.checkAdd(stack[top], b);
+                    stack[top] += b;
+                    break;
+                case SUBTRACT:
+                    b = stack[top--];
+                    Checkers.checkSubtract(stack[top], b);
+                    stack[top] -= b;
+                    break;
+                case MULTIPLY:
+                    b = stack[top--];
+                    Checkers.checkMultiply(stack[top], b);
+                    stack[top] *= b;
+                    break;
+                case DIVIDE:
+                    b = stack[top--];
+                    Checkers.checkDivide(stack[top], b);
+                    stack[top] /= b;
+                    break;
+                case MIN:
+                    b = stack[top--];
+                    stack[top] = Math.min(stack[top], b);
+                    break;
+                case MAX:
+                    b = stack[top--];
+                    stack[top] = Math.max(stack[top], b);
+                    break;
+                case NEGATE:
+                    Checkers.checkNegate(stack[top]);
+                    stack[top] = -stack[top];
+                    break;
+                case ABS:
+                    Checkers.checkAbs(stack[top]);
+                    stack[top] = Math.abs(stack[top]);
+                    break;
+                case SQRT:
+                    stack[top] = Sqrt.sqrt(stack[top]);
+                    break;
+                case HIGH:
+                    stack[top] = Integer.highestOneBit(stack[top]);
+                    break;
+                default:
+                    stack[top] = Integer.lowestOneBit(stack[top]);
+            }
+        }
+        return stack[slots];
+    }
+
+    private static int opcode(AbstractBinaryOperation operation) {
+        if (operation instanceof CheckedAdd) {
+            return ADD;
+        } else if (operation instanceof CheckedSubtract) {
+            return SUBTRACT;
+        } else if (operation instanceof CheckedMultiply) {
+            return MULTIPLY;
+        } else if (operation instanceof CheckedDivide) {
+            return DIVIDE;
+        } else if (operation instanceof Min) {
+            return MIN;
+        } else if (operation instanceof Max) {
+            return MAX;
+        }
+        return -1;
+    }
+
+    private static int opcode(AbstractUnaryOperation operation) {
+        if (operation instanceof CheckedNegate) {
+            return NEGATE;
+        } else if (operation instanceof Abs) {
+            return ABS;
+        } else if (operation instanceof Sqrt) {
+            return SQRT;
+        } else if (operation instanceof High) {
+            return HIGH;
+        } else if (operation instanceof Low) {
+            return LOW;
+        }
+        return -1;
+    }
+
+    private static class Builder {
+        private final List<Integer> constants = new ArrayList<>();
+        private final Map<Integer, Integer> constantIndices = new HashMap<>();
+        private final List<TripleExpression> nodes = new ArrayList<>();
+        private int[] code = new int[16];
+        private int length, depth, maxDepth, slots;
+
+        void emit(TripleExpression expression) {
+            Deque<Object> pending = new ArrayDeque<>();
+            pending.push(expression);
+            while (!pending.isEmpty()) {
+                Object next = pending.pop();
+                if (next instanceof Integer) {
+                    int operation = (Integer) next;
+                    write(operation);
+                    if (operation < NEGATE) {
+                        --depth;
+                    }
+                } else if (next instanceof AbstractBinaryOperation && opcode((AbstractBinaryOperation) next) >= 0) {
+                    AbstractBinaryOperation operation = (AbstractBinaryOperation) next;
+                    pending.push(opcode(operation));
+                    pending.push(operation.getSecond());
+                    pending.push(operation.getFirst());
+                } else if (next instanceof AbstractUnaryOperation && opcode((AbstractUnaryOperation) next) >= 0) {
+                    AbstractUnaryOperation operation = (AbstractUnaryOperation) next;
+                    pending.push(opcode(operation));
+                    pending.push(operation.getFirst());
+                } else {
+                    leaf((TripleExpression) next);
+                    maxDepth = Math.max(maxDepth, ++depth);
+                }
+            }
+        }
+
+        private void leaf(TripleExpression expression) {
+            if (expression instanceof Const) {
+                int value = ((Const) expression).getValue();
+                Integer index = constantIndices.get(value);
+                if (index == null) {
+                    index = constants.size();
+                    constantIndices.put(value, index);
+                    constants.add(value);
+                }
+                write(CONST);
+                write(index);
+            } else if (expression instanceof Variable) {
+                int slot = ((Variable) expression).getSlot();
+                if (slot < 0) {
+                    write(ZERO);
+                } else {
+                    write(VARIABLE);
+                    write(slot);
+                    slots = Math.max(slots, slot + 1);
+                }
+            } else {
+                write(NODE);
+                write(nodes.size());
+                nodes.add(expression);
+            }
+        }
+
+        private void write(int value) {
+            if (length == code.length) {
+                int[] grown = new int[length * 2];
+                System.arraycopy(code, 0, grown, 0, length);
+                code = grown;
+            }
+            code[length++] = value;
+        }
+
+        int[] code() {
+            int[] res = new int[length];
+            System.arraycopy(code, 0, res, 0, length);
+            return res;
+        }
+    }
+}
@@ -3,6 +3,30 @@ package expression;
 import expression.exceptions.EvaluatingException;
 import expression.exceptions.ParsingException;
 
-public interface TripleExpression {
+import java.util.BitSet;
+
+public interface TripleExpression extends ArrayExpression {
     int evaluate(int x, int y, int z) throws EvaluatingException, ParsingException;
+
+    /**
+     * Evaluates the expression with {@code x}, {@code y} and {@code z} taken from the first three slots.
+     * Built-in nodes override it to read each variable's own slot.
+     */
+    default int evaluate(int[] variables) throws EvaluatingException, ParsingException {
+        return evaluate(variables[0], variables[1], variables[2]);
+    }
+
+    /**
+     * Evaluates the expression at every point {@code (xs[i], ys[i], zs[i])} for {@code i < out.length}.
+     * A point whose evaluation fails gets its bit set in {@code errors}; its value in {@code out} is unspecified.
+     */
+    default void evaluate(int[] xs, int[] ys, int[] zs, int[] out, BitSet errors) throws ParsingException {
+        for (int i = 0; i < out.length; ++i) {
+            try {
+                out[i] = evaluate(xs[i], ys[i], zs[i]);
+            } catch (EvaluatingException e) {
+                errors.set(i);
+            }
+        }
+    }
 }
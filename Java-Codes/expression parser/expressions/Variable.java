@@ -1,26 +1,84 @@
 package expression;
 
+import java.util.Arrays;
+import java.util.BitSet;
+
 public class Variable implements TripleExpression {
     private String name;
+    private int slot;
 
-    public Variable(String newName) {
+    public Variable(String newName, int newSlot) {
         name = newName;
+        slot = newSlot;
+    }
+
+    public Variable(String newName) {
+        this(newName, tripleSlot(newName));
     }
 
     public Variable(char newName) {
-        name = "" + newName;
+        this("" + newName);
     }
 
-    public int evaluate(int x, int y, int z) {
+    private static int tripleSlot(String name) {
         switch (name) {
             case "x":
-                return x;
+                return 0;
             case "y":
-                return y;
+                return 1;
             case "z":
+                return 2;
+            default:
+                return -1;
+        }
+    }
+
+    String getName() {
+        return name;
+    }
+
+    int getSlot() {
+        return slot;
+    }
+
+    public int evaluate(int x, int y, int z) {
+        switch (slot) {
+            case 0:
+                return x;
+            case 1:
+                return y;
+            case 2:
                 return z;
             default:
                 return 0;
         }
     }
+
+    public int evaluate(int[] variables) {
+        return slot < 0 ? 0 : variables[slot];
+    }
+
+    public void evaluate(int[] xs, int[] ys, int[] zs, int[] out, BitSet errors) {
+        switch (slot) {
+            case 0:
+                System.arraycopy(xs, 0, out, 0, out.length);
+                break;
+            case 1:
+                System.arraycopy(ys, 0, out, 0, out.length);
+                break;
+            case 2:
+                System.arraycopy(zs, 0, out, 0, out.length);
+                break;
+            default:
+                Arrays.fill(out, 0);
+        }
+    }
+
+    public boolean equals(Object o) {
+        return o instanceof Variable && slot == ((Variable) o).slot && name.equals(((Variable) o).name);
+    }
+
+    public int hashCode() {
+        return name.hashCode();
+    }
 }
@@ -0,0 +1,75 @@
+package expression.parser;
+
+import expression.ExpressionCompiler;
+import expression.TripleExpression;
+import expression.exceptions.ParsingException;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Bounded LRU cache in front of an {@link ExpressionParser}, keyed by expression text.
+ * With {@code compile} set, the cached value is the {@link ExpressionCompiler compiled} tree.
+ * Parsing happens outside the lock, so two threads missing on the same text may both parse it.
+ */
+public class CachingParser implements Parser {
+    private final ExpressionParser parser;
+    private final boolean compile;
+    private final Map<String, TripleExpression> expressions;
+    private final AtomicLong hits = new AtomicLong(), misses = new AtomicLong();
+
+    public CachingParser(final int capacity) {
+        this(new ExpressionParser(), capacity, false);
+    }
+
+    public CachingParser(final ExpressionParser parser, final int capacity, final boolean compile) {
+        this.parser = parser;
+        this.compile = compile;
+        expressions = new LinkedHashMap<String, TripleExpression>(16, 0.75f, true) {
+            protected boolean removeEldestEntry(final Map.Entry<String, TripleExpression> eldest) {
+                return size() > capacity;
+            }
+        };
+    }
+
+    public TripleExpression parse(final String expression) throws ParsingException {
+        TripleExpression res;
+        synchronized (expressions) {
+            res = expressions.get(expression);
+        }
+        if (res != null) {
+            hits.incrementAndGet();
+            return res;
+        }
+        misses.incrementAndGet();
+        res = parser.parse(expression);
+        if (compile) {
+            res = ExpressionCompiler.compile(res);
+        }
+        synchronized (expressions) {
+            expressions.put(expression, res);
+        }
+        return res;
+    }
+
+    public long getHits() {
+        return hits.get();
+    }
+
+    public long getMisses() {
+        return misses.get();
+    }
+
+    public int size() {
+        synchronized (expressions) {
+            return expressions.size();
+        }
+    }
+
+    public void clear() {
+        synchronized (expressions) {
+            expressions.clear();
+        }
+    }
+}
@@ -0,0 +1,102 @@
+package expression.parser;
+
+import expression.ExpressionCompiler;
+import expression.TripleExpression;
+import expression.exceptions.EvaluatingException;
+import expression.exceptions.ParsingException;
+
+import java.io.OutputStream;
+import java.io.PrintStream;
+import java.util.Arrays;
+import java.util.Random;
+
+/**
+ * Checks that {@link ExpressionCompiler compiled} expressions agree with the tree they were compiled from,
+ * through both {@code evaluate(int, int, int)} and {@code evaluate(int[])}, for parsers with
+ * one, two, three and five variables. Exits with status 1 on any mismatch.
+ * Usage: {@code CompilerCheck [expressions per parser]}.
+ */
+public class CompilerCheck {
+    private static final String[][] VARIABLES = {{"a"}, {"a", "b"}, {"x", "y", "z"}, {"v0", "v1", "v2", "v3", "v4"}};
+    private static final String[] CONSTANTS = {"0", "1", "7", "-3", "1000", "2147483647", "-2147483648"};
+    private static final String[] BINARY = {" + ", " - ", " * ", " / ", " min ", " max "};
+    private static final String[] UNARY = {"-", "abs ", "sqrt ", "high ", "low "};
+
+    public static void main(String[] args) throws ParsingException {
+        int count = args.length > 0 ? Integer.parseInt(args[0]) : 2000;
+        PrintStream out = System.out;
+        System.setOut(new PrintStream(OutputStream.nullOutputStream()));
+
+        Random random = new Random(1);
+        int mismatches = 0;
+        for (String[] variables : VARIABLES) {
+            ExpressionParser parser = new ExpressionParser(variables);
+            int checked = 0;
+            for (int i = 0; i < count; ++i) {
+                String expression = generate(random, variables);
+                TripleExpression tree = parser.parse(expression);
+                TripleExpression compiled = ExpressionCompiler.compile(tree);
+                if (compiled == tree) {
+                    continue;
+                }
+                ++checked;
+                for (int point = 0; point < 20; ++point) {
+                    int[] values = new int[variables.length];
+                    for (int j = 0; j < values.length; ++j) {
+                        values[j] = random.nextInt(3) == 0 ? random.nextInt() : random.nextInt(201) - 100;
+                    }
+                    int x = values[0], y = values.length > 1 ? values[1] : 0, z = values.length > 2 ? values[2] : 0;
+                    String expected = evaluate(tree, values) + " " + evaluate(tree, x, y, z);
+                    String actual = evaluate(compiled, values) + " " + evaluate(compiled, x, y, z);
+                    if (!expected.equals(actual)) {
+                        out.println(expression + " at " + Arrays.toString(values) + ": expected " + expected + ", got " + actual);
+                        ++mismatches;
+                    }
+                }
+            }
+            out.println(variables.length + " variables: " + checked + " of " + count + " expressions compiled and checked");
+        }
+        out.println(mismatches + " mismatches");
+        if (mismatches != 0) {
+            System.exit(1);
+        }
+    }
+
+    private static String evaluate(TripleExpression expression, int[] values) throws ParsingException {
+        try {
+            return Integer.toString(expression.evaluate(values));
+        } catch (EvaluatingException e) {
+            return e.getClass().getSimpleName();
+        }
+    }
+
+    private static String evaluate(TripleExpression expression, int x, int y, int z) throws ParsingException {
+        try {
+            return Integer.toString(expression.evaluate(x, y, z));
+        } catch (EvaluatingException e) {
+            return e.getClass().getSimpleName();
+        }
+    }
+
+    private static String generate(Random random, String[] variables) {
+        StringBuilder res = new StringBuilder();
+        int terms = 1 + random.nextInt(10);
+        for (int i = 0; i < terms; ++i) {
+            while (random.nextInt(4) == 0) {
+                res.append(UNARY[random.nextInt(UNARY.length)]);
+            }
+            boolean open = random.nextInt(4) == 0;
+            if (open) {
+                res.append('(');
+            }
+            res.append(random.nextInt(3) == 0 ? CONSTANTS[random.nextInt(CONSTANTS.length)] : variables[random.nextInt(variables.length)]);
+            if (open) {
+                res.append(BINARY[random.nextInt(BINARY.length)]).append(variables[random.nextInt(variables.length)]).append(')');
+            }
+            if (i + 1 < terms) {
+                res.append(BINARY[random.nextInt(BINARY.length)]);
+            }
+        }
+        return res.toString();
+    }
+}
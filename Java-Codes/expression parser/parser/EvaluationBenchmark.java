@@ -0,0 +1,121 @@
+package expression.parser;
+
+import expression.ExpressionCompiler;
+import expression.StackExpression;
+import expression.TripleExpression;
+import expression.exceptions.EvaluatingException;
+import expression.exceptions.ParsingException;
+
+import java.io.OutputStream;
+import java.io.PrintStream;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Random;
+
+/**
+ * Times {@code evaluate(x, y, z)} of the parsed tree against its {@link ExpressionCompiler compiled} form
+ * and its {@link StackExpression flat stack machine} form on formulas of growing size, up to about a million nodes,
+ * in nanoseconds per evaluation. All forms must return the same sum of results.
+ * The million-node formula is evaluated at {@code points / 10000} points only, on a thread with a stack deep
+ * enough for the recursive tree walk.
+ * Usage: {@code EvaluationBenchmark [points] [rounds]}.
+ */
+public class EvaluationBenchmark {
+    private static final String[] FORMULAS = {
+            "x + y * z",
+            "x * y - z * (x - 3) / 7 + abs (y - z) min 1000",
+            "sqrt (x * x + y * y) + high (z + 1000) - low (x + 1) max (y / (z * z + 1))"
+    };
+    private static final String[] BINARY = {" + ", " - ", " * ", " min ", " max "};
+
+    public static void main(String[] args) throws InterruptedException {
+        Thread thread = new Thread(null, () -> {
+            try {
+                benchmark(args);
+            } catch (ParsingException e) {
+                throw new IllegalStateException(e);
+            }
+        }, "benchmark", 1L << 30);
+        thread.start();
+        thread.join();
+    }
+
+    private static void benchmark(String[] args) throws ParsingException {
+        int points = args.length > 0 ? Integer.parseInt(args[0]) : 1_000_000;
+        int rounds = args.length > 1 ? Integer.parseInt(args[1]) : 5;
+        PrintStream out = System.out;
+        System.setOut(new PrintStream(OutputStream.nullOutputStream()));
+
+        Random random = new Random(1);
+        int[] xs = new int[points], ys = new int[points], zs = new int[points];
+        for (int i = 0; i < points; ++i) {
+            xs[i] = random.nextInt(201) - 100;
+            ys[i] = random.nextInt(201) - 100;
+            zs[i] = random.nextInt(201) - 100;
+        }
+        String[] formulas = {FORMULAS[0], FORMULAS[1], FORMULAS[2], generate(random, 200), generate(random, 500_000)};
+        for (String formula : formulas) {
+            TripleExpression tree = new ExpressionParser().parse(formula);
+            Map<String, TripleExpression> forms = forms(tree);
+            int n = formula.length() > 1_000_000 ? Math.max(1, points / 10000) : points;
+            out.println(formula.length() > 80 ? "generated formula of " + formula.length() + " chars" : formula);
+            for (int round = 0; round < rounds; ++round) {
+                StringBuilder line = new StringBuilder("  round " + round + ":");
+                long expected = 0;
+                for (Map.Entry<String, TripleExpression> form : forms.entrySet()) {
+                    long time = System.nanoTime();
+                    long sum = run(form.getValue(), xs, ys, zs, n);
+                    time = System.nanoTime() - time;
+                    line.append(String.format(" %s %.1f ns", form.getKey(), (double) time / n));
+                    if (form.getValue() == tree) {
+                        expected = sum;
+                    } else if (sum != expected) {
+                        line.append(" (sum differs)");
+                    }
+                }
+                out.println(line);
+            }
+        }
+    }
+
+    private static Map<String, TripleExpression> forms(TripleExpression tree) {
+        Map<String, TripleExpression> forms = new LinkedHashMap<>();
+        forms.put("tree", tree);
+        TripleExpression compiled = ExpressionCompiler.compile(tree);
+        if (compiled != tree) {
+            forms.put("compiled", compiled);
+        }
+        forms.put("stack", new StackExpression(tree));
+        return forms;
+    }
+
+    private static long run(TripleExpression expression, int[] xs, int[] ys, int[] zs, int n) throws ParsingException {
+        long sum = 0;
+        for (int i = 0; i < n; ++i) {
+            try {
+                sum += expression.evaluate(xs[i], ys[i], zs[i]);
+            } catch (EvaluatingException e) {
+                ++sum;
+            }
+        }
+        return sum;
+    }
+
+    private static String generate(Random random, int terms) {
+        StringBuilder res = new StringBuilder("x");
+        for (int i = 1; i < terms; ++i) {
+            res.append(BINARY[random.nextInt(BINARY.length)]);
+            switch (random.nextInt(4)) {
+                case 0:
+                    res.append(random.nextInt(10));
+                    break;
+                case 1:
+                    res.append("(y - ").append(random.nextInt(10)).append(')');
+                    break;
+                default:
+                    res.append("xyz".charAt(random.nextInt(3)));
+            }
+        }
+        return res.toString();
+    }
+}
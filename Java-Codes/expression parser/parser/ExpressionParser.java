@@ -4,98 +4,190 @@ import expression.*;
 import expression.exceptions.ParsingException;
 import expression.exceptions.UnpairedBracketsException;
 
+import java.io.IOException;
+import java.io.Reader;
+import java.io.UncheckedIOException;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Operator-precedence parser with explicit operand and operator stacks,
+ * so nesting depth is limited only by memory and not by the thread stack.
+ * The result is passed through {@link ExpressionOptimizer}, so constant subtrees come back folded.
+ */
 public class ExpressionParser implements Parser {
-    private Tokenizer myTokenizer;
-
-    private TripleExpression unaryOperations() throws ParsingException {
-        TripleExpression res;
-        switch (myTokenizer.getNextToken()) {
-            case NUMBER:
-                res = new Const(myTokenizer.getValue());
-                myTokenizer.getNextToken();
-                break;
-            case VARIABLE:
-                res = new Variable(myTokenizer.getVarName());
-                myTokenizer.getNextToken();
-                break;
+    private final String[] variables;
+
+    public ExpressionParser() {
+        this("x", "y", "z");
+    }
+
+    /**
+     * Creates a parser for expressions over the given variables; the {@code i}-th name is bound to slot {@code i}
+     * of the array passed to {@link ArrayExpression#evaluate(int[])}.
+     */
+    public ExpressionParser(String... variables) {
+        for (int i = 0; i < variables.length; ++i) {
+            String name = variables[i];
+            if (name.isEmpty() || !Character.isLetter(name.charAt(0)) || !name.chars().allMatch(Character::isLetterOrDigit)) {
+                throw new IllegalArgumentException("Incorrect variable name \"" + name + "\"");
+            }
+            if (Tokenizer.isKeyword(name)) {
+                throw new IllegalArgumentException("Variable name \"" + name + "\" is a function name");
+            }
+            for (int j = 0; j < i; ++j) {
+                if (name.equals(variables[j])) {
+                    throw new IllegalArgumentException("Duplicate variable name \"" + name + "\"");
+                }
+            }
+        }
+        this.variables = variables.clone();
+    }
+
+    private static TripleExpression intern(Map<TripleExpression, TripleExpression> nodes, TripleExpression node) {
+        TripleExpression res = nodes.putIfAbsent(node, node);
+        return res == null ? node : res;
+    }
+
+    private static int priority(Token token) {
+        switch (token) {
+            case MIN:
+            case MAX:
+                return 1;
+            case ADD:
             case SUB:
-                res = new CheckedNegate(unaryOperations());
-                break;
+                return 2;
+            case MUL:
+            case DIV:
+                return 3;
+            default:
+                return 0;
+        }
+    }
+
+    private static boolean isUnary(Token token) {
+        switch (token) {
+            case NEGATE:
             case ABS:
-                res = new Abs(unaryOperations());
-                break;
             case SQRT:
-                res = new Sqrt(unaryOperations());
-                break;
-            case OPEN_BRACKET:
-                res = minAndMax();
-                if (myTokenizer.getCurToken() != Token.CLOSE_BRACKET) {
-                    throw new UnpairedBracketsException("There is unpaired open bracket in a expression", myTokenizer.getExpression(), myTokenizer.getInd());
-                }
-                myTokenizer.getNextToken();
-                break;
             case HIGH:
-                res = new High(unaryOperations());
-                break;
             case LOW:
-                res = new Low(unaryOperations());
-                break;
+                return true;
             default:
-                throw new ParsingException("Incorrect expression", myTokenizer.getExpression(), myTokenizer.getInd());
+                return false;
         }
-        return res;
     }
 
-    private TripleExpression mulAndDiv() throws ParsingException {
-        TripleExpression res = unaryOperations();
-        for (; ; ) {
-            switch (myTokenizer.getCurToken()) {
-                case MUL:
-                    res = new CheckedMultiply(res, unaryOperations());
-                    break;
-                case DIV:
-                    res = new CheckedDivide(res, unaryOperations());
-                    break;
-                default:
-                    return res;
-            }
+    private static TripleExpression unary(Token token, TripleExpression a) {
+        switch (token) {
+            case NEGATE:
+                return new CheckedNegate(a);
+            case ABS:
+                return new Abs(a);
+            case SQRT:
+                return new Sqrt(a);
+            case HIGH:
+                return new High(a);
+            default:
+                return new Low(a);
         }
     }
 
-    private TripleExpression addAndSub() throws ParsingException {
-        TripleExpression res = mulAndDiv();
-        for (; ; ) {
-            switch (myTokenizer.getCurToken()) {
-                case ADD:
-                    res = new CheckedAdd(res, mulAndDiv());
-                    break;
-                case SUB:
-                    res = new CheckedSubtract(res, mulAndDiv());
-                    break;
-                default:
-                    return res;
-            }
+    private static TripleExpression binary(Token token, TripleExpression a, TripleExpression b) {
+        switch (token) {
+            case ADD:
+                return new CheckedAdd(a, b);
+            case SUB:
+                return new CheckedSubtract(a, b);
+            case MUL:
+                return new CheckedMultiply(a, b);
+            case DIV:
+                return new CheckedDivide(a, b);
+            case MIN:
+                return new Min(a, b);
+            default:
+                return new Max(a, b);
+        }
+    }
+
+    private static void reduceUnary(Deque<Token> operations, Deque<TripleExpression> operands, Map<TripleExpression, TripleExpression> nodes) {
+        while (!operations.isEmpty() && isUnary(operations.peek())) {
+            operands.push(intern(nodes, unary(operations.pop(), operands.pop())));
         }
     }
 
-    private TripleExpression minAndMax() throws ParsingException {
-        TripleExpression res = addAndSub();
+    private static void reduceBinary(Deque<Token> operations, Deque<TripleExpression> operands, Map<TripleExpression, TripleExpression> nodes, int minPriority) {
+        while (!operations.isEmpty() && priority(operations.peek()) >= minPriority) {
+            TripleExpression b = operands.pop();
+            TripleExpression a = operands.pop();
+            operands.push(intern(nodes, binary(operations.pop(), a, b)));
+        }
+    }
+
+    private TripleExpression parse(Tokenizer tokenizer) throws ParsingException {
+        Map<TripleExpression, TripleExpression> nodes = new HashMap<>();
+        Deque<TripleExpression> operands = new ArrayDeque<>();
+        Deque<Token> operations = new ArrayDeque<>();
+        Token token = tokenizer.getNextToken();
         for (; ; ) {
-            switch (myTokenizer.getCurToken()) {
-                case MAX:
-                    res = new Max(res, addAndSub());
+            switch (token) {
+                case NUMBER:
+                    operands.push(intern(nodes, new Const(tokenizer.getValue())));
                     break;
-                case MIN:
-                    res = new Min(res, addAndSub());
+                case VARIABLE:
+                    operands.push(intern(nodes, new Variable(variables[tokenizer.getVarSlot()], tokenizer.getVarSlot())));
                     break;
+                case SUB:
+                    operations.push(Token.NEGATE);
+                    token = tokenizer.getNextToken();
+                    continue;
+                case ABS:
+                case SQRT:
+                case HIGH:
+                case LOW:
+                case OPEN_BRACKET:
+                    operations.push(token);
+                    token = tokenizer.getNextToken();
+                    continue;
                 default:
-                    return res;
+                    throw new ParsingException("Incorrect expression", tokenizer.getExpression(), tokenizer.getInd());
+            }
+            reduceUnary(operations, operands, nodes);
+            token = tokenizer.getNextToken();
+            while (token == Token.CLOSE_BRACKET) {
+                reduceBinary(operations, operands, nodes, 1);
+                operations.pop();
+                reduceUnary(operations, operands, nodes);
+                token = tokenizer.getNextToken();
+            }
+            if (priority(token) == 0) {
+                reduceBinary(operations, operands, nodes, 1);
+                if (!operations.isEmpty()) {
+                    throw new UnpairedBracketsException("There is unpaired open bracket in a expression", tokenizer.getExpression(), tokenizer.getInd());
+                }
+                return ExpressionOptimizer.optimize(operands.pop());
             }
+            reduceBinary(operations, operands, nodes, priority(token));
+            operations.push(token);
+            token = tokenizer.getNextToken();
         }
     }
 
     public TripleExpression parse(String expression) throws ParsingException {
-        myTokenizer = new Tokenizer(expression);
-        return minAndMax();
+        return parse(new Tokenizer(expression, variables));
+    }
+
+    public TripleExpression parse(CharSequence expression) throws ParsingException {
+        return parse(new Tokenizer(expression, variables));
+    }
+
+    public TripleExpression parse(Reader expression) throws ParsingException, IOException {
+        try {
+            return parse(new Tokenizer(new ReaderSequence(expression), variables));
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
     }
 }
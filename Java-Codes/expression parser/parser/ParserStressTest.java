@@ -0,0 +1,210 @@
+package expression.parser;
+
+import expression.TripleExpression;
+import expression.exceptions.EvaluatingException;
+import expression.exceptions.ParsingException;
+
+import java.io.OutputStream;
+import java.io.PrintStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Concurrent stress test and throughput comparison for a shared {@link ExpressionParser}.
+ * Every thread parses the same random well-formed and malformed expressions through one parser instance
+ * and checks each result against a single-threaded reference; then parses per second are compared
+ * for one shared parser and one parser per thread. Finally, tokenizing and parsing speed in MB/s is measured
+ * on a corpus of very long formulas. Exits with status 1 on any mismatch.
+ * Usage: {@code ParserStressTest [threads] [expressions] [seconds] [long formula length]}.
+ */
+public class ParserStressTest {
+    private static final String[] ATOMS = {"x", "y", "z", "0", "1", "7", "-3", "2147483647", "-2147483648", "100000"};
+    private static final String[] BINARY = {" + ", " - ", " * ", " / ", " min ", " max "};
+    private static final String[] UNARY = {"-", "abs ", "sqrt ", "high ", "low "};
+    private static final String[] BROKEN = {"(", ")", " + ", "abc", "2147483648", " * *"};
+    private static final int[][] POINTS = {{0, 0, 0}, {1, -2, 3}, {-7, 11, 100}, {46341, 46341, -1}, {Integer.MIN_VALUE, -1, Integer.MAX_VALUE}};
+
+    public static void main(String[] args) throws Exception {
+        int threads = args.length > 0 ? Integer.parseInt(args[0]) : Runtime.getRuntime().availableProcessors() * 2;
+        int count = args.length > 1 ? Integer.parseInt(args[1]) : 2000;
+        double seconds = args.length > 2 ? Double.parseDouble(args[2]) : 2;
+        int length = args.length > 3 ? Integer.parseInt(args[3]) : 1 << 20;
+        PrintStream out = System.out;
+        System.setOut(new PrintStream(OutputStream.nullOutputStream()));
+
+        Random random = new Random(1);
+        String[] expressions = new String[count];
+        String[] expected = new String[count];
+        for (int i = 0; i < count; ++i) {
+            expressions[i] = generate(random);
+            expected[i] = signature(new ExpressionParser(), expressions[i]);
+        }
+
+        ExpressionParser shared = new ExpressionParser();
+        AtomicInteger mismatches = new AtomicInteger();
+        run(threads, t -> {
+            for (int round = 0; round < 5; ++round) {
+                for (int i = 0; i < count; ++i) {
+                    int index = (i * 31 + t * 7 + round) % count;
+                    if (!expected[index].equals(signature(shared, expressions[index]))) {
+                        mismatches.incrementAndGet();
+                    }
+                }
+            }
+        });
+        out.println("stress: " + threads + " threads, " + 5L * threads * count + " parses, " + mismatches.get() + " mismatches");
+
+        out.printf("shared parser:     %.0f parses/s%n", throughput(threads, seconds, expressions, t -> shared));
+        out.printf("parser per thread: %.0f parses/s%n", throughput(threads, seconds, expressions, t -> new ExpressionParser()));
+
+        String[] corpus = new String[8];
+        for (int i = 0; i < corpus.length; ++i) {
+            corpus[i] = generateLong(random, length);
+        }
+        out.printf("long formulas:     tokenize %.1f MB/s, parse %.1f MB/s%n",
+                megabytesPerSecond(seconds, corpus, ParserStressTest::tokenize), megabytesPerSecond(seconds, corpus, new ExpressionParser()::parse));
+        if (mismatches.get() != 0) {
+            System.exit(1);
+        }
+    }
+
+    private interface Worker {
+        void run(int thread) throws Exception;
+    }
+
+    private interface ParserSource {
+        ExpressionParser get(int thread);
+    }
+
+    private interface Pass {
+        Object run(String expression) throws ParsingException;
+    }
+
+    private static void run(int threads, Worker worker) throws InterruptedException {
+        List<Thread> started = new ArrayList<>();
+        for (int t = 0; t < threads; ++t) {
+            int thread = t;
+            Thread th = new Thread(() -> {
+                try {
+                    worker.run(thread);
+                } catch (Exception e) {
+                    throw new IllegalStateException(e);
+                }
+            });
+            th.start();
+            started.add(th);
+        }
+        for (Thread th : started) {
+            th.join();
+        }
+    }
+
+    private static double throughput(int threads, double seconds, String[] expressions, ParserSource parsers) throws InterruptedException {
+        AtomicInteger parses = new AtomicInteger();
+        long deadline = System.nanoTime() + (long) (seconds * 1e9);
+        run(threads, t -> {
+            ExpressionParser parser = parsers.get(t);
+            int done = 0;
+            while (System.nanoTime() < deadline) {
+                for (int i = 0; i < 100; ++i, ++done) {
+                    try {
+                        parser.parse(expressions[(done * 31 + t) % expressions.length]);
+                    } catch (ParsingException ignored) {
+                    }
+                }
+            }
+            parses.addAndGet(done);
+        });
+        return parses.get() / seconds;
+    }
+
+    private static double megabytesPerSecond(double seconds, String[] corpus, Pass pass) throws ParsingException {
+        long chars = 0, start = System.nanoTime(), deadline = start + (long) (seconds * 1e9);
+        for (int i = 0; System.nanoTime() < deadline; ++i) {
+            String expression = corpus[i % corpus.length];
+            pass.run(expression);
+            chars += expression.length();
+        }
+        return chars / 1e6 / ((System.nanoTime() - start) / 1e9);
+    }
+
+    private static Object tokenize(String expression) throws ParsingException {
+        Tokenizer tokenizer = new Tokenizer(expression, new String[]{"x", "y", "z"});
+        int tokens = 0;
+        while (tokenizer.getNextToken() != Token.END) {
+            ++tokens;
+        }
+        return tokens;
+    }
+
+    /**
+     * Well-formed formula of about {@code length} chars with shallow brackets.
+     */
+    private static String generateLong(Random random, int length) {
+        StringBuilder res = new StringBuilder();
+        while (true) {
+            if (random.nextInt(8) == 0) {
+                res.append(UNARY[random.nextInt(UNARY.length)]);
+            }
+            if (random.nextInt(4) == 0) {
+                res.append('(').append(ATOMS[random.nextInt(ATOMS.length)]).append(BINARY[random.nextInt(BINARY.length)])
+                        .append(ATOMS[random.nextInt(ATOMS.length)]).append(')');
+            } else {
+                res.append(ATOMS[random.nextInt(ATOMS.length)]);
+            }
+            if (res.length() >= length) {
+                return res.toString();
+            }
+            res.append(BINARY[random.nextInt(BINARY.length)]);
+        }
+    }
+
+    private static String generate(Random random) {
+        StringBuilder res = new StringBuilder();
+        int terms = 1 + random.nextInt(12), open = 0;
+        for (int i = 0; i < terms; ++i) {
+            while (random.nextInt(4) == 0) {
+                res.append(UNARY[random.nextInt(UNARY.length)]);
+            }
+            if (random.nextInt(3) == 0) {
+                res.append('(');
+                ++open;
+            }
+            res.append(ATOMS[random.nextInt(ATOMS.length)]);
+            while (open > 0 && random.nextBoolean()) {
+                res.append(')');
+                --open;
+            }
+            if (i + 1 < terms) {
+                res.append(BINARY[random.nextInt(BINARY.length)]);
+            }
+        }
+        while (open-- > 0) {
+            res.append(')');
+        }
+        if (random.nextInt(10) == 0) {
+            res.insert(random.nextInt(res.length() + 1), BROKEN[random.nextInt(BROKEN.length)]);
+        }
+        return res.toString();
+    }
+
+    private static String signature(ExpressionParser parser, String expression) {
+        TripleExpression parsed;
+        try {
+            parsed = parser.parse(expression);
+        } catch (ParsingException e) {
+            return e.getClass().getSimpleName() + ": " + e.getMessage();
+        }
+        StringBuilder res = new StringBuilder();
+        for (int[] point : POINTS) {
+            try {
+                res.append(parsed.evaluate(point[0], point[1], point[2])).append(' ');
+            } catch (EvaluatingException | ParsingException e) {
+                res.append(e.getClass().getSimpleName()).append(' ');
+            }
+        }
+        return res.toString();
+    }
+}
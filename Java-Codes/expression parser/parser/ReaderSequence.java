@@ -0,0 +1,87 @@
+package expression.parser;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.io.UncheckedIOException;
+
+/**
+ * A window over a {@link Reader} seen as a {@link CharSequence} with absolute indices.
+ * Characters are read on demand; those before the last {@link #release released} position
+ * (minus a short history kept for error messages) may be dropped, so memory stays bounded by the longest token.
+ * {@link #length()} is exact for indices up to two characters past the furthest one read.
+ */
+class ReaderSequence implements CharSequence {
+    private static final int CHUNK = 1 << 16;
+    private static final int HISTORY = 16;
+
+    private final Reader reader;
+    private char[] buffer = new char[CHUNK];
+    private int base, count, low, limit = -1;
+    private boolean eof;
+
+    ReaderSequence(Reader reader) {
+        this.reader = reader;
+    }
+
+    void release(int index) {
+        low = Math.max(low, index - HISTORY);
+    }
+
+    public int length() {
+        fill(limit + 2);
+        return base + count;
+    }
+
+    public char charAt(int index) {
+        fill(index);
+        if (index < base || index >= base + count) {
+            throw new IndexOutOfBoundsException("Index " + index + " is outside of the window [" + base + ", " + (base + count) + ")");
+        }
+        limit = Math.max(limit, index);
+        return buffer[index - base];
+    }
+
+    public CharSequence subSequence(int start, int end) {
+        fill(end - 1);
+        if (start < base || start > end || end > base + count) {
+            throw new IndexOutOfBoundsException("Range [" + start + ", " + end + ") is outside of the window [" + base + ", " + (base + count) + ")");
+        }
+        return new String(buffer, start - base, end - start);
+    }
+
+    public String toString() {
+        return new String(buffer, 0, count);
+    }
+
+    private void fill(int index) {
+        try {
+            while (!eof && index >= base + count) {
+                if (count == buffer.length) {
+                    makeRoom();
+                }
+                int read = reader.read(buffer, count, buffer.length - count);
+                if (read < 0) {
+                    eof = true;
+                } else {
+                    count += read;
+                }
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private void makeRoom() {
+        int drop = Math.min(low, base + count) - base;
+        if (drop > 0) {
+            System.arraycopy(buffer, drop, buffer, 0, count - drop);
+            base += drop;
+            count -= drop;
+        }
+        if (count * 2 > buffer.length) {
+            char[] grown = new char[buffer.length * 2];
+            System.arraycopy(buffer, 0, grown, 0, count);
+            buffer = grown;
+        }
+    }
+}
@@ -1,5 +1,5 @@
 package expression.parser;
 
 public enum Token {
-    ADD, SUB, DIV, MUL, OPEN_BRACKET, CLOSE_BRACKET, NUMBER, VARIABLE, BEGIN, END, ABS, SQRT, MIN, MAX, HIGH, LOW
+    ADD, SUB, DIV, MUL, OPEN_BRACKET, CLOSE_BRACKET, NUMBER, VARIABLE, BEGIN, END, ABS, SQRT, MIN, MAX, HIGH, LOW, NEGATE
 }
@@ -2,49 +2,31 @@ package expression.parser;
 
 import expression.exceptions.*;
 
-import java.util.HashMap;
-import java.util.HashSet;
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.Set;
 
 public class Tokenizer {
-    private String expression;
-    private int ind, value, balance;
+    private CharSequence expression;
+    private int ind, value, balance, varSlot;
     private Token curToken;
-    private char varName;
-    private static HashSet<Token> unaryOperations = new HashSet<>();
-    private static HashSet<Token> binaryOperations = new HashSet<>();
-    private static HashMap<String, Token> identifiers = new HashMap<>();
+    private final String[] variables;
+    private static final Set<Token> unaryOperations;
+    private static final Set<Token> binaryOperations;
 
-    Tokenizer(String newExpression) {
+    Tokenizer(CharSequence newExpression, String[] newVariables) {
         expression = newExpression;
+        variables = newVariables;
         ind = balance = 0;
         curToken = Token.BEGIN;
     }
 
     static {
-        identifiers.put("x", Token.VARIABLE);
-        identifiers.put("y", Token.VARIABLE);
-        identifiers.put("z", Token.VARIABLE);
-        identifiers.put("abs", Token.ABS);
-        identifiers.put("sqrt", Token.SQRT);
-        identifiers.put("min", Token.MIN);
-        identifiers.put("max", Token.MAX);
-        identifiers.put("high", Token.HIGH);
-        identifiers.put("low", Token.LOW);
-
-        unaryOperations.add(Token.ABS);
-        unaryOperations.add(Token.SQRT);
-        unaryOperations.add(Token.HIGH);
-        unaryOperations.add(Token.LOW);
-
-        binaryOperations.add(Token.MIN);
-        binaryOperations.add(Token.MAX);
-        binaryOperations.add(Token.ADD);
-        binaryOperations.add(Token.SUB);
-        binaryOperations.add(Token.MUL);
-        binaryOperations.add(Token.DIV);
-    }
-
-    public String getExpression() {
+        unaryOperations = Collections.unmodifiableSet(EnumSet.of(Token.ABS, Token.SQRT, Token.HIGH, Token.LOW));
+        binaryOperations = Collections.unmodifiableSet(EnumSet.of(Token.MIN, Token.MAX, Token.ADD, Token.SUB, Token.MUL, Token.DIV));
+    }
+
+    public CharSequence getExpression() {
         return expression;
     }
 
@@ -65,8 +47,12 @@ public class Tokenizer {
         return curToken;
     }
 
-    char getVarName() {
-        return varName;
+    int getVarSlot() {
+        return varSlot;
+    }
+
+    static boolean isKeyword(String name) {
+        return keyword(name, 0, name.length()) != null;
     }
 
     private void skipWhiteSpaces() {
@@ -79,34 +65,91 @@ public class Tokenizer {
         return Character.isDigit(c) || c == '.' || c == 'e';
     }
 
-    private String getNumber() {
+    private int getNumber(boolean negative) throws IncorrectConstException {
         int l = ind;
         while (ind < expression.length() && isPartOfNumber(expression.charAt(ind))) {
             ++ind;
         }
         int r = ind--;
-        return expression.substring(l, r);
+        long res = 0;
+        for (int i = l; i < r; ++i) {
+            int digit = Character.digit(expression.charAt(i), 10);
+            if (digit < 0) {
+                throw incorrectConst(l, r, negative);
+            }
+            res = res * 10 + digit;
+            if (res > -(long) Integer.MIN_VALUE) {
+                throw incorrectConst(l, r, negative);
+            }
+        }
+        if (!negative && res > Integer.MAX_VALUE) {
+            throw incorrectConst(l, r, negative);
+        }
+        return (int) (negative ? -res : res);
     }
 
-    private int getInt(String s) throws IncorrectConstException {
-        try {
-            return Integer.parseInt(s);
-        } catch (NumberFormatException e) {
-            throw new IncorrectConstException(e.getMessage(), expression, ind - s.length());
-        }
+    private IncorrectConstException incorrectConst(int l, int r, boolean negative) {
+        String s = (negative ? "-" : "") + expression.subSequence(l, r);
+        return new IncorrectConstException("For input string: \"" + s + "\"", expression, ind - s.length());
     }
 
     private boolean isPartOfIdentifier(char c) {
         return Character.isLetterOrDigit(c);
     }
 
-    private String getIdentifier() {
+    private Token getIdentifier() {
         int l = ind;
         while (ind < expression.length() && isPartOfIdentifier(expression.charAt(ind))) {
             ++ind;
         }
         int r = ind--;
-        return expression.substring(l, r);
+        Token keyword = keyword(expression, l, r);
+        if (keyword != null) {
+            return keyword;
+        }
+        for (int i = 0; i < variables.length; ++i) {
+            if (variables[i].length() == r - l && matches(expression, variables[i], l)) {
+                varSlot = i;
+                return Token.VARIABLE;
+            }
+        }
+        return null;
+    }
+
+    private static Token keyword(CharSequence s, int l, int r) {
+        switch (r - l) {
+            case 3:
+                switch (s.charAt(l)) {
+                    case 'a':
+                        return matches(s, "abs", l) ? Token.ABS : null;
+                    case 'l':
+                        return matches(s, "low", l) ? Token.LOW : null;
+                    case 'm':
+                        return matches(s, "min", l) ? Token.MIN : matches(s, "max", l) ? Token.MAX : null;
+                    default:
+                        return null;
+                }
+            case 4:
+                switch (s.charAt(l)) {
+                    case 's':
+                        return matches(s, "sqrt", l) ? Token.SQRT : null;
+                    case 'h':
+                        return matches(s, "high", l) ? Token.HIGH : null;
+                    default:
+                        return null;
+                }
+            default:
+                return null;
+        }
+    }
+
+    private static boolean matches(CharSequence s, String keyword, int l) {
+        for (int i = 0; i < keyword.length(); ++i) {
+            if (s.charAt(l + i) != keyword.charAt(i)) {
+                return false;
+            }
+        }
+        return true;
     }
 
     private void checkForOperand() throws MissingOperandException {
@@ -123,6 +166,9 @@ public class Tokenizer {
 
     private void nextToken() throws ParsingException {
         skipWhiteSpaces();
+        if (expression instanceof ReaderSequence) {
+            ((ReaderSequence) expression).release(ind);
+        }
         if (ind >= expression.length()) {
             checkForOperand();
             curToken = Token.END;
@@ -151,7 +197,7 @@ public class Tokenizer {
                     } else {
                         if (isPartOfNumber(expression.charAt(ind + 1))) {
                             ind++;
-                            value = getInt("-" + getNumber());
+                            value = getNumber(true);
                             curToken = Token.NUMBER;
                         } else {
                             curToken = Token.SUB;
@@ -179,22 +225,20 @@ public class Tokenizer {
             default:
                 if (Character.isDigit(c)) {
                     checkForOperation();
-                    value = getInt(getNumber());
+                    value = getNumber(false);
                     curToken = Token.NUMBER;
                 } else {
-                    String cur = getIdentifier();
-                    if (!identifiers.containsKey(cur)) {
-                        throw new UnknownOperationException("Unknown function in expression \"" + cur + "\"", expression, ind - cur.length() + 1);
+                    int l = ind;
+                    Token token = getIdentifier();
+                    if (token == null) {
+                        throw new UnknownOperationException("Unknown function in expression \"" + expression.subSequence(l, ind + 1) + "\"", expression, l);
                     }
-                    if (binaryOperations.contains(identifiers.get(cur))) {
+                    if (binaryOperations.contains(token)) {
                         checkForOperand();
                     } else {
                         checkForOperation();
                     }
-                    curToken = identifiers.get(cur);
-                    if (curToken == Token.VARIABLE) {
-                        varName = cur.charAt(0);
-                    }
+                    curToken = token;
                 }
         }
         ++ind;
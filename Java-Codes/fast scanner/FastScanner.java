@@ -1,33 +1,85 @@
+import java.math.BigInteger;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
 import java.nio.charset.StandardCharsets;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
 import java.util.*;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Future;
 import java.io.*;
 
-import javafx.util.Pair;
-
 public class FastScanner {
     final private int BUFFER_SIZE = (1 << 16);
+    final private long MAP_WINDOW = (1L << 30);
     private DataInputStream in;
     private byte[] buffer;
     private int bufferPointer, bytesRead;
+    private FileChannel channel;
+    private MappedByteBuffer map;
+    private ByteBuffer window;
+    private long mapStart, mapEnd;
+    private byte[] line = new byte[1 << 7];
+    private int lineLength;
+    private byte[] number = new byte[1 << 5];
+    private double scanned;
+
+    private static final int MIN_POWER = -342, MAX_POWER = 308;
+    private static final long[] POWERS_OF_FIVE = powersOfFive();
+    private static final double[] POWERS_OF_TEN = {
+            1e0, 1e1, 1e2, 1e3, 1e4, 1e5, 1e6, 1e7, 1e8, 1e9, 1e10, 1e11,
+            1e12, 1e13, 1e14, 1e15, 1e16, 1e17, 1e18, 1e19, 1e20, 1e21, 1e22
+    };
 
     public FastScanner() {
         in = new DataInputStream(System.in);
         buffer = new byte[BUFFER_SIZE];
+        window = ByteBuffer.wrap(buffer);
         bufferPointer = 0;
         bytesRead = 0;
     }
 
     public FastScanner(String fileName) {
+        this(fileName, false);
+    }
+
+    /**
+     * If {@code memoryMapped} is set, the file is read through windows of {@code MAP_WINDOW} bytes
+     * mapped with {@link FileChannel#map}, without copying into an intermediate buffer.
+     */
+    public FastScanner(String fileName, boolean memoryMapped) {
         try {
-            in = new DataInputStream(new FileInputStream(fileName));
-            buffer = new byte[BUFFER_SIZE];
+            if (memoryMapped) {
+                FileChannel file = FileChannel.open(Paths.get(fileName), StandardOpenOption.READ);
+                map(file, 0, file.size());
+            } else {
+                in = new DataInputStream(new FileInputStream(fileName));
+                buffer = new byte[BUFFER_SIZE];
+                window = ByteBuffer.wrap(buffer);
+                bytesRead = 0;
+            }
             bufferPointer = 0;
-            bytesRead = 0;
         } catch (IOException e) {
             System.out.println(e.getMessage());
         }
     }
 
+    private FastScanner(FileChannel file, long from, long to) throws IOException {
+        map(file, from, to);
+    }
+
+    private void map(FileChannel file, long from, long to) throws IOException {
+        channel = file;
+        mapStart = from;
+        mapEnd = to;
+        map = channel.map(FileChannel.MapMode.READ_ONLY, from, Math.min(MAP_WINDOW, to - from));
+        bytesRead = map.capacity();
+        window = map;
+    }
+
     private void fillBuffer() {
         try {
             bufferPointer = 0;
@@ -42,6 +94,31 @@ public class FastScanner {
         }
     }
 
+    private boolean remap() {
+        if (mapStart + map.capacity() >= mapEnd) {
+            return false;
+        }
+        try {
+            mapStart += map.capacity();
+            map = channel.map(FileChannel.MapMode.READ_ONLY, mapStart, Math.min(MAP_WINDOW, mapEnd - mapStart));
+            bufferPointer = 0;
+            bytesRead = map.capacity();
+            window = map;
+            return true;
+        } catch (IOException e) {
+            System.out.println(e.getMessage());
+            return false;
+        }
+    }
+
+    private boolean nextWindow() {
+        if (map != null) {
+            return remap();
+        }
+        fillBuffer();
+        return bytesRead > 0;
+    }
+
     private byte arrayBoolsToByte(boolean b[]) {
         byte res = 0;
         for (boolean c : b) {
@@ -68,54 +145,115 @@ public class FastScanner {
     }
 
     private byte read() {
+        if (map != null) {
+            return bufferPointer < bytesRead || remap() ? map.get(bufferPointer++) : -1;
+        }
         if (bufferPointer == bytesRead) {
             fillBuffer();
         }
         return buffer[bufferPointer++];
     }
 
-    private Pair<Boolean, Character> readChar() {
-        byte firstByte = read();
-        int needBytes = 1, cnt = 0;
-        for (int i = 7; i >= 0 && (firstByte & (1 << i)) != 0; --i) {
-            ++cnt;
-        }
-        if (cnt > 0) {
-            needBytes += cnt - 1;
+    private boolean readLine() {
+        lineLength = 0;
+        boolean any = false;
+        while (bufferPointer < bytesRead || nextWindow()) {
+            any = true;
+            ByteBuffer w = window;
+            int p = bufferPointer, n = bytesRead, end = p;
+            while (end < n && w.get(end) != '\n') {
+                ++end;
+            }
+            if (lineLength + end - p > line.length) {
+                line = Arrays.copyOf(line, Math.max(line.length * 2, lineLength + end - p));
+            }
+            w.get(p, line, lineLength, end - p);
+            lineLength += end - p;
+            if (end < n) {
+                bufferPointer = end + 1;
+                return true;
+            }
+            bufferPointer = n;
         }
-        byte[] bytesArray = new byte[needBytes];
-        Boolean flag = true;
-        bytesArray[0] = firstByte;
-        for (int i = 1; i < needBytes; ++i) {
-            byte nextByte = read();
-            if (nextByte == -1) {
-                flag = false;
+        return any;
+    }
+
+    /**
+     * Decodes UTF-8 like {@link StandardCharsets#UTF_8} does: each maximal invalid subsequence
+     * becomes a single {@code '\uFFFD'}.
+     */
+    private static void decode(byte[] bytes, int length, StringBuilder res) {
+        int i = 0;
+        while (i < length) {
+            int b = bytes[i++] & 0xFF;
+            if (b < 0x80) {
+                res.append((char) b);
+                continue;
+            }
+            int need, code, low = 0x80, high = 0xBF;
+            if (b >= 0xC2 && b <= 0xDF) {
+                need = 1;
+                code = b & 0x1F;
+            } else if (b >= 0xE0 && b <= 0xEF) {
+                need = 2;
+                code = b & 0x0F;
+                low = b == 0xE0 ? 0xA0 : low;
+            } else if (b >= 0xF0 && b <= 0xF4) {
+                need = 3;
+                code = b & 0x07;
+                low = b == 0xF0 ? 0x90 : low;
+                high = b == 0xF4 ? 0x8F : high;
+            } else {
+                res.append('\uFFFD');
+                continue;
+            }
+            int j = i;
+            while (j < length && j - i < need) {
+                int c = bytes[j] & 0xFF;
+                if (c < low || c > high) {
+                    break;
+                }
+                code = code << 6 | c & 0x3F;
+                low = 0x80;
+                high = 0xBF;
+                ++j;
             }
-            bytesArray[i] = nextByte;
+            if (j - i < need || (code >= Character.MIN_SURROGATE && code <= Character.MAX_SURROGATE)) {
+                res.append('\uFFFD');
+            } else {
+                res.appendCodePoint(code);
+            }
+            i = j;
         }
-        Character c = new String(bytesArray, StandardCharsets.UTF_8).toCharArray()[0];
-        Pair<Boolean, Character> res = new Pair<>(flag, c);
-        return res;
     }
 
     public boolean hasNext() {
+        if (map != null) {
+            return bufferPointer < bytesRead || remap();
+        }
         if (bufferPointer == bytesRead) {
             fillBuffer();
         }
         return bytesRead != -1;
     }
 
+    /**
+     * Returns the next line without its terminating {@code '\n'}, or {@code null} at the end of input.
+     */
     public String nextLine() {
-        StringBuffer res = new StringBuffer();
-        Pair<Boolean, Character> c = readChar();
-        while (c.getKey() != false) {
-            if (c.getValue() == '\n') {
-                break;
-            }
-            res.append(c.getValue());
-            c = readChar();
+        return readLine() ? new String(line, 0, lineLength, StandardCharsets.UTF_8) : null;
+    }
+
+    /**
+     * Appends the next line without its terminating {@code '\n'} to {@code res}.
+     * Returns {@code false} at the end of input.
+     */
+    public boolean nextLine(StringBuilder res) {
+        if (!readLine()) {
+            return false;
         }
-        return res.toString();
+        decode(line, lineLength, res);
+        return true;
     }
 
     public int nextInt() {
@@ -160,29 +298,430 @@ public class FastScanner {
         return res;
     }
 
+    /**
+     * Reads up to {@code len} integers into {@code dst} starting at {@code off},
+     * scanning whole buffer windows at a time. Returns the number of integers read,
+     * which is less than {@code len} only at the end of input.
+     */
+    public int readInts(int[] dst, int off, int len) {
+        int count = 0, value = 0;
+        boolean neg = false, inNumber = false;
+        while (count < len && (bufferPointer < bytesRead || nextWindow())) {
+            ByteBuffer w = window;
+            int p = bufferPointer, n = bytesRead;
+            while (p < n) {
+                byte c = w.get(p);
+                if (c >= '0' && c <= '9') {
+                    int v = value;
+                    do {
+                        v = v * 10 + (c - '0');
+                        c = ++p < n ? w.get(p) : 0;
+                    } while (c >= '0' && c <= '9');
+                    if (p == n) {
+                        value = v;
+                        inNumber = true;
+                        break;
+                    }
+                    ++p;
+                    dst[off + count++] = neg ? -v : v;
+                } else if (inNumber) {
+                    ++p;
+                    dst[off + count++] = neg ? -value : value;
+                } else {
+                    ++p;
+                    neg = c == '-';
+                    continue;
+                }
+                value = 0;
+                neg = inNumber = false;
+                if (count == len) {
+                    break;
+                }
+            }
+            bufferPointer = p;
+        }
+        if (inNumber) {
+            dst[off + count++] = neg ? -value : value;
+        }
+        return count;
+    }
+
+    public int readLongs(long[] dst, int off, int len) {
+        int count = 0;
+        long value = 0;
+        boolean neg = false, inNumber = false;
+        while (count < len && (bufferPointer < bytesRead || nextWindow())) {
+            ByteBuffer w = window;
+            int p = bufferPointer, n = bytesRead;
+            while (p < n) {
+                byte c = w.get(p);
+                if (c >= '0' && c <= '9') {
+                    long v = value;
+                    do {
+                        v = v * 10 + (c - '0');
+                        c = ++p < n ? w.get(p) : 0;
+                    } while (c >= '0' && c <= '9');
+                    if (p == n) {
+                        value = v;
+                        inNumber = true;
+                        break;
+                    }
+                    ++p;
+                    dst[off + count++] = neg ? -v : v;
+                } else if (inNumber) {
+                    ++p;
+                    dst[off + count++] = neg ? -value : value;
+                } else {
+                    ++p;
+                    neg = c == '-';
+                    continue;
+                }
+                value = 0;
+                neg = inNumber = false;
+                if (count == len) {
+                    break;
+                }
+            }
+            bufferPointer = p;
+        }
+        if (inNumber) {
+            dst[off + count++] = neg ? -value : value;
+        }
+        return count;
+    }
+
+    public int[] readAllInts() {
+        int[] res = new int[1 << 10];
+        int size = 0, read;
+        while ((read = readInts(res, size, res.length - size)) == res.length - size) {
+            size = res.length;
+            res = Arrays.copyOf(res, size * 2);
+        }
+        return Arrays.copyOf(res, size + read);
+    }
+
+    public long[] readAllLongs() {
+        long[] res = new long[1 << 10];
+        int size = 0, read;
+        while ((read = readLongs(res, size, res.length - size)) == res.length - size) {
+            size = res.length;
+            res = Arrays.copyOf(res, size * 2);
+        }
+        return Arrays.copyOf(res, size + read);
+    }
+
+    /**
+     * Reads all integers of a file like {@link #readAllLongs()}, parsing it on {@code parallelism} threads.
+     * Returns one array per chunk, in file order. Chunks end right after a byte that is neither a digit
+     * nor {@code '-'}, so no number is split and the result is the same as reading the file sequentially.
+     */
+    public static long[][] readLongChunks(String fileName, int parallelism) throws IOException {
+        try (FileChannel file = FileChannel.open(Paths.get(fileName), StandardOpenOption.READ)) {
+            long size = file.size();
+            int chunks = (int) Math.max(1, Math.min(parallelism * 4L, size >> 16));
+            long[] bounds = new long[chunks + 1];
+            for (int i = 1; i < chunks; ++i) {
+                bounds[i] = Math.max(bounds[i - 1], alignedBound(file, size * i / chunks));
+            }
+            bounds[chunks] = size;
+            List<Callable<long[]>> tasks = new ArrayList<>();
+            for (int i = 0; i < chunks; ++i) {
+                long from = bounds[i], to = bounds[i + 1];
+                tasks.add(() -> new FastScanner(file, from, to).readAllLongs());
+            }
+            ForkJoinPool pool = new ForkJoinPool(parallelism);
+            try {
+                long[][] res = new long[chunks][];
+                List<Future<long[]>> results = pool.invokeAll(tasks);
+                for (int i = 0; i < chunks; ++i) {
+                    res[i] = results.get(i).get();
+                }
+                return res;
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new InterruptedIOException(e.getMessage());
+            } catch (ExecutionException e) {
+                if (e.getCause() instanceof IOException) {
+                    throw (IOException) e.getCause();
+                }
+                throw new RuntimeException(e.getCause());
+            } finally {
+                pool.shutdown();
+            }
+        }
+    }
+
+    public static long[] readAllLongs(String fileName, int parallelism) throws IOException {
+        long[][] chunks = readLongChunks(fileName, parallelism);
+        int size = 0;
+        for (long[] chunk : chunks) {
+            size = Math.addExact(size, chunk.length);
+        }
+        long[] res = new long[size];
+        int pos = 0;
+        for (long[] chunk : chunks) {
+            System.arraycopy(chunk, 0, res, pos, chunk.length);
+            pos += chunk.length;
+        }
+        return res;
+    }
+
+    private static long alignedBound(FileChannel file, long position) throws IOException {
+        ByteBuffer bytes = ByteBuffer.allocate(64);
+        while (true) {
+            bytes.clear();
+            int read = file.read(bytes, position);
+            if (read <= 0) {
+                return file.size();
+            }
+            for (int i = 0; i < read; ++i) {
+                byte c = bytes.get(i);
+                if (!(c >= '0' && c <= '9') && c != '-') {
+                    return position + i + 1;
+                }
+            }
+            position += read;
+        }
+    }
+
+    /**
+     * Reads the next number in Java floating-point syntax (without hexadecimal or type suffixes),
+     * {@code NaN} or {@code Infinity}, and returns the same value as {@link Double#parseDouble}.
+     *
+     * @throws NoSuchElementException if the input has no more numbers
+     */
     public double nextDouble() {
-        double res = 0, p = 1;
-        byte c = read();
-        boolean neg = false;
-        while (!((c >= '0' && c <= '9') || c == '-')) {
-            c = read();
+        if (!scanDouble()) {
+            throw new NoSuchElementException();
         }
-        if (c == '-') {
-            neg = true;
-            c = read();
+        return scanned;
+    }
+
+    /**
+     * Reads up to {@code len} numbers as by {@link #nextDouble()} into {@code dst} starting at {@code off}.
+     * Returns the number of values read, which is less than {@code len} only at the end of input.
+     */
+    public int readDoubles(double[] dst, int off, int len) {
+        int count = 0;
+        while (count < len && scanDouble()) {
+            dst[off + count++] = scanned;
         }
-        do {
-            res = res * 10 + (c - '0');
-            c = read();
-        } while (c >= '0' && c <= '9');
-        if (c == '.') {
-            c = read();
+        return count;
+    }
+
+    public double[] readAllDoubles() {
+        double[] res = new double[1 << 10];
+        int size = 0, read;
+        while ((read = readDoubles(res, size, res.length - size)) == res.length - size) {
+            size = res.length;
+            res = Arrays.copyOf(res, size * 2);
+        }
+        return Arrays.copyOf(res, size + read);
+    }
+
+    /**
+     * Next byte of input as an unsigned value, or {@code -1} at the end of input.
+     */
+    private int next() {
+        return bufferPointer < bytesRead || nextWindow() ? window.get(bufferPointer++) & 0xff : -1;
+    }
+
+    /**
+     * Parses the next number into {@code scanned}; returns {@code false} if the input ends before one is found.
+     */
+    private boolean scanDouble() {
+        int c = next();
+        while (true) {
+            boolean neg = false;
+            if (c == '-') {
+                neg = true;
+                c = next();
+            }
+            if (c == 'N' || c == 'I') {
+                String word = c == 'N' ? "NaN" : "Infinity";
+                int i = 1;
+                while (i < word.length() && (c = next()) == word.charAt(i)) {
+                    ++i;
+                }
+                if (i == word.length()) {
+                    scanned = word.length() == 3 ? Double.NaN : neg ? Double.NEGATIVE_INFINITY : Double.POSITIVE_INFINITY;
+                    return true;
+                }
+                continue;
+            }
+            if (!(c >= '0' && c <= '9') && c != '.') {
+                if (c == -1) {
+                    return false;
+                }
+                if (!neg) {
+                    c = next();
+                }
+                continue;
+            }
+            int length = neg ? append(0, (byte) '-') : 0, digits = 0, exponent = 0;
+            long mantissa = 0;
+            boolean any = false, truncated = false;
             while (c >= '0' && c <= '9') {
-                res += (c - '0') / (p *= 10);
+                any = true;
+                length = append(length, (byte) c);
+                if (digits < 19) {
+                    mantissa = mantissa * 10 + (c - '0');
+                    digits += mantissa == 0 ? 0 : 1;
+                } else {
+                    ++exponent;
+                    truncated |= c != '0';
+                }
+                c = next();
             }
+            if (c == '.') {
+                length = append(length, (byte) c);
+                c = next();
+                while (c >= '0' && c <= '9') {
+                    any = true;
+                    length = append(length, (byte) c);
+                    if (digits < 19) {
+                        mantissa = mantissa * 10 + (c - '0');
+                        digits += mantissa == 0 ? 0 : 1;
+                        --exponent;
+                    } else {
+                        truncated |= c != '0';
+                    }
+                    c = next();
+                }
+            }
+            if (!any) {
+                continue;
+            }
+            int end = length;
+            if (c == 'e' || c == 'E') {
+                length = append(length, (byte) c);
+                c = next();
+                boolean negExponent = c == '-';
+                if (c == '-' || c == '+') {
+                    length = append(length, (byte) c);
+                    c = next();
+                }
+                if (c >= '0' && c <= '9') {
+                    int e = 0;
+                    do {
+                        length = append(length, (byte) c);
+                        e = e < 100000 ? e * 10 + (c - '0') : e;
+                        c = next();
+                    } while (c >= '0' && c <= '9');
+                    exponent += negExponent ? -e : e;
+                    end = length;
+                }
+            }
+            scanned = toDouble(neg, mantissa, exponent, truncated, end);
+            return true;
         }
-        if (neg) {
-            res = -res;
+    }
+
+    private int append(int length, byte c) {
+        if (length == number.length) {
+            number = Arrays.copyOf(number, length * 2);
+        }
+        number[length] = c;
+        return length + 1;
+    }
+
+    /**
+     * Value of {@code mantissa * 10^exponent}, where {@code mantissa} is unsigned. Exact products are computed
+     * directly, other values with the Eisel-Lemire algorithm; the rare cases it cannot round, and numbers with
+     * more than 19 significant digits, are left to {@link Double#parseDouble} on the {@code length} recorded bytes.
+     */
+    private double toDouble(boolean neg, long mantissa, int exponent, boolean truncated, int length) {
+        double res;
+        if (mantissa == 0) {
+            res = 0;
+        } else if (!truncated && mantissa >>> 53 == 0 && exponent >= -22 && exponent <= 22) {
+            res = exponent < 0 ? mantissa / POWERS_OF_TEN[-exponent] : mantissa * POWERS_OF_TEN[exponent];
+        } else {
+            long bits = truncated ? -1 : eiselLemire(mantissa, exponent);
+            if (bits < 0) {
+                return Double.parseDouble(new String(number, 0, length, StandardCharsets.ISO_8859_1));
+            }
+            res = Double.longBitsToDouble(bits);
+        }
+        return neg ? -res : res;
+    }
+
+    private static long unsignedMultiplyHigh(long x, long y) {
+        return Math.multiplyHigh(x, y) + (x >> 63 & y) + (y >> 63 & x);
+    }
+
+    /**
+     * Bits of the double nearest to {@code w * 10^q}, or {@code -1} if the 128-bit approximation is not enough to tell.
+     */
+    private static long eiselLemire(long w, int q) {
+        if (q < MIN_POWER) {
+            return 0;
+        }
+        if (q > MAX_POWER) {
+            return Double.doubleToRawLongBits(Double.POSITIVE_INFINITY);
+        }
+        int lz = Long.numberOfLeadingZeros(w);
+        w <<= lz;
+        int index = 2 * (q - MIN_POWER);
+        long high = unsignedMultiplyHigh(w, POWERS_OF_FIVE[index]), low = w * POWERS_OF_FIVE[index];
+        long precisionMask = -1L >>> 55;
+        if ((high & precisionMask) == precisionMask) {
+            long secondHigh = unsignedMultiplyHigh(w, POWERS_OF_FIVE[index + 1]);
+            low += secondHigh;
+            if (Long.compareUnsigned(secondHigh, low) > 0) {
+                ++high;
+            }
+        }
+        if (low == -1 && (q < -27 || q > 55)) {
+            return -1;
+        }
+        int upperBit = (int) (high >>> 63), shift = upperBit + 9;
+        long mantissa = high >>> shift;
+        int power2 = (((152170 + 65536) * q) >> 16) + 63 + upperBit - lz + 1023;
+        if (power2 <= 0) {
+            if (-power2 + 1 >= 64) {
+                return 0;
+            }
+            mantissa >>>= -power2 + 1;
+            mantissa += mantissa & 1;
+            mantissa >>>= 1;
+            return mantissa;
+        }
+        if (Long.compareUnsigned(low, 1) <= 0 && q >= -4 && q <= 23 && (mantissa & 3) == 1 && mantissa << shift == high) {
+            mantissa &= ~1L;
+        }
+        mantissa += mantissa & 1;
+        mantissa >>>= 1;
+        if (mantissa >= 2L << 52) {
+            mantissa = 1L << 52;
+            ++power2;
+        }
+        mantissa &= ~(1L << 52);
+        if (power2 >= 0x7FF) {
+            return Double.doubleToRawLongBits(Double.POSITIVE_INFINITY);
+        }
+        return mantissa | (long) power2 << 52;
+    }
+
+    /**
+     * 128-bit truncated approximations of {@code 5^q} for {@code MIN_POWER <= q <= MAX_POWER},
+     * normalized so that the top bit is set, as two longs (high, low) each.
+     */
+    private static long[] powersOfFive() {
+        long[] res = new long[2 * (MAX_POWER - MIN_POWER + 1)];
+        BigInteger five = BigInteger.valueOf(5);
+        for (int q = MIN_POWER; q <= MAX_POWER; ++q) {
+            BigInteger power;
+            if (q < 0) {
+                BigInteger divisor = five.pow(-q);
+                int z = divisor.bitLength();
+                power = BigInteger.ONE.shiftLeft(q >= -27 ? z + 127 : 2 * z + 128).divide(divisor).add(BigInteger.ONE);
+            } else {
+                power = five.pow(q).shiftLeft(128);
+            }
+            power = power.shiftRight(power.bitLength() - 128);
+            res[2 * (q - MIN_POWER)] = power.shiftRight(64).longValue();
+            res[2 * (q - MIN_POWER) + 1] = power.longValue();
         }
         return res;
     }
@@ -233,7 +772,12 @@ public class FastScanner {
 
     public void close() {
         try {
-            in.close();
+            if (channel != null) {
+                map = null;
+                channel.close();
+            } else {
+                in.close();
+            }
         } catch (IOException e) {
             System.out.println(e.getMessage());
         }
@@ -0,0 +1,120 @@
+import java.io.*;
+import java.util.*;
+
+/**
+ * Throughput of {@link FastScanner#readAllInts()} and {@link FastScanner#readAllLongs()} in MB/s, in stream and
+ * memory-mapped mode, against a {@link FastScanner#nextInt()} / {@link FastScanner#nextLong()} loop and against
+ * {@link BufferedReader} with {@link Integer#parseInt} / {@link Long#parseLong}.
+ * Every reader must return the same numbers; exits with status 1 otherwise.
+ * Usage: {@code FastScannerBulkBenchmark [numbers] [rounds]}.
+ */
+public class FastScannerBulkBenchmark {
+    public static void main(String[] args) throws IOException {
+        int count = args.length > 0 ? Integer.parseInt(args[0]) : 5_000_000;
+        int rounds = args.length > 1 ? Integer.parseInt(args[1]) : 5;
+
+        Random random = new Random(1);
+        int[] ints = new int[count];
+        long[] longs = new long[count];
+        for (int i = 0; i < count; ++i) {
+            ints[i] = random.nextBoolean() ? random.nextInt() : random.nextInt(1000) - 500;
+            longs[i] = random.nextBoolean() ? random.nextLong() : ints[i];
+        }
+        File intFile = write(Arrays.stream(ints).mapToObj(Integer::toString).toArray(String[]::new), random);
+        File longFile = write(Arrays.stream(longs).mapToObj(Long::toString).toArray(String[]::new), random);
+
+        boolean same = true;
+        for (int round = 0; round < rounds; ++round) {
+            System.out.println("round " + round);
+            for (boolean memoryMapped : new boolean[]{false, true}) {
+                String mode = memoryMapped ? "mapped" : "stream";
+
+                long time = System.nanoTime();
+                FastScanner scanner = new FastScanner(intFile.getPath(), memoryMapped);
+                int[] bulkInts = scanner.readAllInts();
+                scanner.close();
+                report("readAllInts, " + mode, intFile, time);
+                same &= Arrays.equals(ints, bulkInts);
+
+                time = System.nanoTime();
+                scanner = new FastScanner(intFile.getPath(), memoryMapped);
+                int[] loopInts = new int[count];
+                for (int i = 0; i < count; ++i) {
+                    loopInts[i] = scanner.nextInt();
+                }
+                scanner.close();
+                report("nextInt loop, " + mode, intFile, time);
+                same &= Arrays.equals(ints, loopInts);
+
+                time = System.nanoTime();
+                scanner = new FastScanner(longFile.getPath(), memoryMapped);
+                long[] bulkLongs = scanner.readAllLongs();
+                scanner.close();
+                report("readAllLongs, " + mode, longFile, time);
+                same &= Arrays.equals(longs, bulkLongs);
+
+                time = System.nanoTime();
+                scanner = new FastScanner(longFile.getPath(), memoryMapped);
+                long[] loopLongs = new long[count];
+                for (int i = 0; i < count; ++i) {
+                    loopLongs[i] = scanner.nextLong();
+                }
+                scanner.close();
+                report("nextLong loop, " + mode, longFile, time);
+                same &= Arrays.equals(longs, loopLongs);
+            }
+
+            long time = System.nanoTime();
+            int[] parsedInts = new int[count];
+            int size = 0;
+            try (BufferedReader in = new BufferedReader(new FileReader(intFile))) {
+                String line;
+                while ((line = in.readLine()) != null) {
+                    StringTokenizer tokens = new StringTokenizer(line);
+                    while (tokens.hasMoreTokens()) {
+                        parsedInts[size++] = Integer.parseInt(tokens.nextToken());
+                    }
+                }
+            }
+            report("BufferedReader + parseInt", intFile, time);
+            same &= Arrays.equals(ints, parsedInts);
+
+            time = System.nanoTime();
+            long[] parsedLongs = new long[count];
+            size = 0;
+            try (BufferedReader in = new BufferedReader(new FileReader(longFile))) {
+                String line;
+                while ((line = in.readLine()) != null) {
+                    StringTokenizer tokens = new StringTokenizer(line);
+                    while (tokens.hasMoreTokens()) {
+                        parsedLongs[size++] = Long.parseLong(tokens.nextToken());
+                    }
+                }
+            }
+            report("BufferedReader + parseLong", longFile, time);
+            same &= Arrays.equals(longs, parsedLongs);
+        }
+        intFile.delete();
+        longFile.delete();
+        System.out.println(same ? "all readers agree" : "readers disagree");
+        if (!same) {
+            System.exit(1);
+        }
+    }
+
+    private static void report(String reader, File file, long start) {
+        double seconds = (System.nanoTime() - start) / 1e9;
+        System.out.printf("  %-28s %6.0f MB/s%n", reader, file.length() / 1e6 / seconds);
+    }
+
+    private static File write(String[] numbers, Random random) throws IOException {
+        File file = File.createTempFile("numbers", ".txt");
+        try (Writer out = new BufferedWriter(new FileWriter(file))) {
+            for (String number : numbers) {
+                out.write(number);
+                out.write(random.nextInt(8) == 0 ? '\n' : ' ');
+            }
+        }
+        return file;
+    }
+}
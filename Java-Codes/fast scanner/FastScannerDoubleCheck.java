@@ -0,0 +1,159 @@
+import java.io.*;
+import java.math.BigDecimal;
+import java.math.MathContext;
+import java.util.*;
+
+/**
+ * Differential test of {@link FastScanner#nextDouble()} and {@link FastScanner#readAllDoubles()} against
+ * {@link Double#parseDouble}: every generated number must produce the same bits in stream and memory-mapped mode.
+ * The inputs cover random bit patterns, exact halfway points between neighbouring doubles, subnormals,
+ * the limits of the exponent range and mantissas longer than 19 digits. Then reading speed is compared with
+ * {@link BufferedReader} and {@link Double#parseDouble}. Exits with status 1 on any mismatch.
+ * Usage: {@code FastScannerDoubleCheck [seed] [numbers] [benchmark numbers]}.
+ */
+public class FastScannerDoubleCheck {
+    private static final String[] FIXED = {
+            "0", "-0.0", "1.5", "1.", ".5", "-.5", "1E5", "1e+5", "0.1", "1e23", "8.41e21",
+            "NaN", "Infinity", "-Infinity",
+            "9007199254740993", "7.3177701707893310e+15", "123456789012345678901234567890",
+            "4.9e-324", "2.4703282292062327e-324", "2.4703282292062328e-324", "1e-400",
+            "2.2250738585072011e-308", "2.2250738585072012e-308", "2.2250738585072014e-308",
+            "1.7976931348623157e308", "1.7976931348623158e308", "1.7976931348623159e308", "1e400",
+            "0.000000000000000000000000000000001", "1e999999999999", "1e-999999999999"
+    };
+
+    public static void main(String[] args) throws IOException {
+        Random random = new Random(args.length > 0 ? Long.parseLong(args[0]) : 1);
+        int count = args.length > 1 ? Integer.parseInt(args[1]) : 1_000_000;
+        int benchmark = args.length > 2 ? Integer.parseInt(args[2]) : 2_000_000;
+
+        List<String> numbers = new ArrayList<>(Arrays.asList(FIXED));
+        for (int i = 0; i < count; ++i) {
+            String number = generate(random);
+            numbers.add(random.nextInt(4) == 0 && number.charAt(0) != '-' ? "-" + number : number);
+        }
+        File file = write(numbers, random);
+        int mismatches = 0;
+        for (boolean memoryMapped : new boolean[]{false, true}) {
+            FastScanner scanner = new FastScanner(file.getPath(), memoryMapped);
+            for (String number : numbers) {
+                mismatches += compare(number, scanner.nextDouble());
+            }
+            scanner.close();
+            scanner = new FastScanner(file.getPath(), memoryMapped);
+            double[] all = scanner.readAllDoubles();
+            scanner.close();
+            if (all.length != numbers.size()) {
+                System.out.println("readAllDoubles returned " + all.length + " numbers, expected " + numbers.size());
+                ++mismatches;
+            }
+            for (int i = 0; i < Math.min(all.length, numbers.size()); ++i) {
+                mismatches += compare(numbers.get(i), all[i]);
+            }
+        }
+        file.delete();
+        System.out.println("checked " + numbers.size() + " numbers: " + mismatches + " mismatches");
+
+        benchmark(random, benchmark);
+        if (mismatches != 0) {
+            System.exit(1);
+        }
+    }
+
+    private static int compare(String number, double actual) {
+        double expected = Double.parseDouble(number);
+        if (Double.doubleToLongBits(expected) == Double.doubleToLongBits(actual)) {
+            return 0;
+        }
+        System.out.println(number + ": expected " + expected + ", got " + actual);
+        return 1;
+    }
+
+    private static String generate(Random random) {
+        switch (random.nextInt(9)) {
+            case 0:
+                return Double.toString(Double.longBitsToDouble(random.nextLong()));
+            case 1:
+                return Double.toString(random.nextDouble() * Math.pow(10, random.nextInt(40) - 20));
+            case 2:
+                return new BigDecimal(finite(random)).toString();
+            case 3: {
+                double d = finite(random), up = Math.nextUp(d);
+                if (Double.isInfinite(up)) {
+                    return "1.7976931348623158e308";
+                }
+                BigDecimal halfway = new BigDecimal(d).add(new BigDecimal(up)).divide(BigDecimal.valueOf(2));
+                if (random.nextBoolean()) {
+                    halfway = halfway.round(new MathContext(17 + random.nextInt(4)));
+                }
+                return halfway.toString();
+            }
+            case 4:
+                return Double.toString(Double.MIN_VALUE * random.nextInt(1 << 20));
+            case 5:
+                return random.nextInt(1000) + "e" + (random.nextInt(60) - 330);
+            case 6:
+                return (random.nextInt(1000) + 1) + "e" + (random.nextInt(30) + 290);
+            case 7: {
+                StringBuilder digits = new StringBuilder();
+                for (int i = 20 + random.nextInt(30); i > 0; --i) {
+                    digits.append((char) ('0' + random.nextInt(10)));
+                }
+                digits.insert(random.nextInt(digits.length() + 1), '.');
+                return digits.append('e').append(random.nextInt(700) - 350).toString();
+            }
+            default:
+                return Long.toString(random.nextLong() >>> random.nextInt(64)) + "." + random.nextInt(1000);
+        }
+    }
+
+    private static double finite(Random random) {
+        return Double.longBitsToDouble(random.nextLong() & 0x7FEFFFFFFFFFFFFFL);
+    }
+
+    private static File write(List<String> numbers, Random random) throws IOException {
+        File file = File.createTempFile("doubles", ".txt");
+        try (Writer out = new BufferedWriter(new FileWriter(file))) {
+            for (String number : numbers) {
+                out.write(number);
+                out.write(random.nextBoolean() ? ' ' : '\n');
+            }
+        }
+        return file;
+    }
+
+    private static void benchmark(Random random, int count) throws IOException {
+        List<String> numbers = new ArrayList<>();
+        for (int i = 0; i < count; ++i) {
+            numbers.add(Double.toString(random.nextGaussian() * 1000));
+        }
+        File file = write(numbers, random);
+        double megabytes = file.length() / 1e6;
+        for (int round = 0; round < 5; ++round) {
+            long time = System.nanoTime();
+            FastScanner scanner = new FastScanner(file.getPath());
+            double fast = 0;
+            for (double value : scanner.readAllDoubles()) {
+                fast += value;
+            }
+            scanner.close();
+            double fastTime = (System.nanoTime() - time) / 1e9;
+
+            time = System.nanoTime();
+            double slow = 0;
+            try (BufferedReader in = new BufferedReader(new FileReader(file))) {
+                String line;
+                while ((line = in.readLine()) != null) {
+                    StringTokenizer tokens = new StringTokenizer(line);
+                    while (tokens.hasMoreTokens()) {
+                        slow += Double.parseDouble(tokens.nextToken());
+                    }
+                }
+            }
+            double slowTime = (System.nanoTime() - time) / 1e9;
+            System.out.printf("round %d: readAllDoubles %.0f MB/s, BufferedReader + parseDouble %.0f MB/s%s%n",
+                    round, megabytes / fastTime, megabytes / slowTime, fast == slow ? "" : " (sums differ)");
+        }
+        file.delete();
+    }
+}
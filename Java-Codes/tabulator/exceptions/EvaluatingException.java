@@ -2,6 +2,6 @@ package expression.exceptions;
 
 public class EvaluatingException extends Exception {
     EvaluatingException(String reason) {
-        super(reason);
+        super(reason, null, false, false);
     }
 }
@@ -0,0 +1,101 @@
+package expression.generic;
+
+import expression.TripleExpression;
+import expression.exceptions.EvaluatingException;
+import expression.exceptions.ParsingException;
+import expression.operations.AdaptiveBigIntegerOperations;
+import expression.operations.BigIntegerOperations;
+import expression.operations.LongOperations;
+import expression.operations.Operations;
+import expression.parser.ExpressionParser;
+
+import java.math.BigInteger;
+import java.util.function.Function;
+
+/**
+ * Tabulates the same expressions with plain {@link BigIntegerOperations}, with the adaptive {@code bi} mode
+ * ({@link AdaptiveBigIntegerOperations}) and with the checked {@code l} mode ({@link LongOperations}),
+ * and reports the time per cell and the speedup over plain {@code BigInteger}.
+ * The adaptive mode must give exactly the plain results, and {@code l} the same wherever it does not overflow;
+ * exits with status 1 otherwise. Each operations class is timed with the loop {@link GenericTabulator} runs
+ * serially, then {@code bi} and {@code l} once more through {@link GenericTabulator#tabulate}.
+ * Usage: {@code BigIntegerBenchmark [half range] [rounds]}.
+ */
+public class BigIntegerBenchmark {
+    private static final String[] EXPRESSIONS = {
+            "x * y + z * (x - y) / 7 - abs z",
+            "x * x * x * y * y * y * z * z * z + 10000000 * x * y * z",
+            "x * x * x * x * x * y * y * y * y * y * z * z * z * z * z - x * y"
+    };
+
+    public static void main(String[] args) throws ParsingException, EvaluatingException {
+        int half = args.length > 0 ? Integer.parseInt(args[0]) : 30;
+        int rounds = args.length > 1 ? Integer.parseInt(args[1]) : 5;
+        int cells = (2 * half) * (2 * half) * (2 * half);
+
+        boolean same = true;
+        try (GenericTabulator tabulator = new GenericTabulator()) {
+            for (String expression : EXPRESSIONS) {
+                System.out.println(expression);
+                for (int round = 0; round < rounds; ++round) {
+                    long time = System.nanoTime();
+                    BigInteger[] plain = tabulate(new BigIntegerOperations(true), x -> x, expression, half);
+                    double plainNanos = (double) (System.nanoTime() - time) / cells;
+
+                    AdaptiveBigIntegerOperations adaptiveOperations = new AdaptiveBigIntegerOperations(true);
+                    time = System.nanoTime();
+                    BigInteger[] adaptive = tabulate(adaptiveOperations, adaptiveOperations::toBigInteger, expression, half);
+                    double adaptiveNanos = (double) (System.nanoTime() - time) / cells;
+
+                    time = System.nanoTime();
+                    BigInteger[] longs = tabulate(new LongOperations(true), BigInteger::valueOf, expression, half);
+                    double longNanos = (double) (System.nanoTime() - time) / cells;
+
+                    time = System.nanoTime();
+                    tabulator.tabulate("bi", expression, -half, half - 1, -half, half - 1, -half, half - 1);
+                    double biNanos = (double) (System.nanoTime() - time) / cells;
+
+                    time = System.nanoTime();
+                    tabulator.tabulate("l", expression, -half, half - 1, -half, half - 1, -half, half - 1);
+                    double lNanos = (double) (System.nanoTime() - time) / cells;
+
+                    int overflows = 0;
+                    for (int i = 0; i < cells; ++i) {
+                        same &= plain[i] == null ? adaptive[i] == null : plain[i].equals(adaptive[i]);
+                        if (longs[i] == null) {
+                            ++overflows;
+                        } else {
+                            same &= longs[i].equals(plain[i]);
+                        }
+                    }
+                    System.out.printf("  round %d: BigInteger %.0f ns, adaptive %.0f ns (%.1fx), long %.0f ns (%.1fx, %d overflows); tabulator bi %.0f ns, l %.0f ns%n",
+                            round, plainNanos, adaptiveNanos, plainNanos / adaptiveNanos, longNanos, plainNanos / longNanos, overflows, biNanos, lNanos);
+                }
+            }
+        }
+        System.out.println(same ? "all modes agree" : "modes disagree");
+        if (!same) {
+            System.exit(1);
+        }
+    }
+
+    private static <T> BigInteger[] tabulate(final Operations<T> operations, final Function<? super T, BigInteger> result, final String expression, final int half) throws ParsingException {
+        TripleExpression<T> exp = new ExpressionParser<>(operations).parse(expression);
+        int n = 2 * half;
+        BigInteger[] res = new BigInteger[n * n * n];
+        int cell = 0;
+        for (int i = -half; i < half; ++i) {
+            T x = operations.fromInt(i);
+            for (int j = -half; j < half; ++j) {
+                T y = operations.fromInt(j);
+                for (int k = -half; k < half; ++k, ++cell) {
+                    try {
+                        res[cell] = result.apply(exp.evaluate(x, y, operations.fromInt(k)));
+                    } catch (EvaluatingException ignored) {
+                    }
+                }
+            }
+        }
+        return res;
+    }
+}
@@ -0,0 +1,27 @@
+package expression.generic;
+
+import expression.operations.DoubleOps;
+
+public class DoubleTable extends Table {
+    private final double[] values;
+    private final DoubleOps operations;
+
+    DoubleTable(final int n, final int m, final int p, final DoubleOps op) {
+        super(n, m, p);
+        values = new double[n * m * p];
+        operations = op;
+    }
+
+    public double getDouble(final int i, final int j, final int k) {
+        return values[index(i, j, k)];
+    }
+
+    public Object get(final int i, final int j, final int k) {
+        return isValid(i, j, k) ? operations.box(getDouble(i, j, k)) : null;
+    }
+
+    void set(final int i, final int j, final int k, final double value) {
+        values[index(i, j, k)] = value;
+        setValid(i, j, k);
+    }
+}
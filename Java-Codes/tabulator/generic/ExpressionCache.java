@@ -0,0 +1,89 @@
+package expression.generic;
+
+import expression.exceptions.ParsingException;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Bounded LRU cache of parsed expressions keyed by (mode, expression text).
+ * Parsing happens outside the lock, so two threads missing on the same key may both parse it.
+ */
+public class ExpressionCache {
+    private final Map<Key, Object> expressions;
+    private final AtomicLong hits = new AtomicLong(), misses = new AtomicLong();
+
+    public ExpressionCache(final int capacity) {
+        expressions = new LinkedHashMap<Key, Object>(16, 0.75f, true) {
+            protected boolean removeEldestEntry(final Map.Entry<Key, Object> eldest) {
+                return size() > capacity;
+            }
+        };
+    }
+
+    interface Loader<E> {
+        E load() throws ParsingException;
+    }
+
+    @SuppressWarnings("unchecked")
+    <E> E get(final String mode, final String expression, final Loader<E> loader) throws ParsingException {
+        Key key = new Key(mode, expression);
+        Object res;
+        synchronized (expressions) {
+            res = expressions.get(key);
+        }
+        if (res != null) {
+            hits.incrementAndGet();
+            return (E) res;
+        }
+        misses.incrementAndGet();
+        E parsed = loader.load();
+        synchronized (expressions) {
+            expressions.put(key, parsed);
+        }
+        return parsed;
+    }
+
+    public long getHits() {
+        return hits.get();
+    }
+
+    public long getMisses() {
+        return misses.get();
+    }
+
+    public int size() {
+        synchronized (expressions) {
+            return expressions.size();
+        }
+    }
+
+    public void clear() {
+        synchronized (expressions) {
+            expressions.clear();
+        }
+    }
+
+    private static class Key {
+        private final String mode, expression;
+
+        Key(final String mode, final String expression) {
+            this.mode = mode;
+            this.expression = expression;
+        }
+
+        public boolean equals(final Object o) {
+            if (!(o instanceof Key)) {
+                return false;
+            }
+            Key other = (Key) o;
+            return mode.equals(other.mode) && expression.equals(other.expression);
+        }
+
+        public int hashCode() {
+            return Objects.hash(mode, expression);
+        }
+    }
+}
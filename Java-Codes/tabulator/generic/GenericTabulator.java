@@ -5,45 +5,236 @@ import expression.exceptions.EvaluatingException;
 import expression.exceptions.ParsingException;
 import expression.operations.*;
 import expression.parser.ExpressionParser;
+import expression.parser.TreeParser;
+import expression.primitive.DoubleExpression;
+import expression.primitive.DoubleExpressionFactory;
+import expression.primitive.IntExpression;
+import expression.primitive.IntExpressionFactory;
 
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.function.Function;
 
-public class GenericTabulator implements Tabulator {
-    private static Map<String, Operations<?>> types = new HashMap<>();
+public class GenericTabulator implements Tabulator, AutoCloseable {
+    private static final long TASK_NANOS = 100_000;
+    private static final int SAMPLE_SIZE = 64;
+    private static final int DEFAULT_CACHE_SIZE = 256;
+    private static Map<String, Operations<? extends Number>> types = new HashMap<>();
+    private final ForkJoinPool pool;
+    private final ExpressionCache cache;
 
     static {
         types.put("i", new IntegerOperations(true));
-        types.put("bi", new BigIntegerOperations(true));
+        types.put("l", new LongOperations(true));
+        types.put("bi", new AdaptiveBigIntegerOperations(true));
         types.put("d", new DoubleOperations());
         types.put("u", new IntegerOperations(false));
         types.put("f", new FloatOperations());
         types.put("b", new ByteOperations());
     }
 
+    public GenericTabulator() {
+        pool = null;
+        cache = new ExpressionCache(DEFAULT_CACHE_SIZE);
+    }
+
+    public GenericTabulator(final int parallelism) {
+        this(parallelism, DEFAULT_CACHE_SIZE);
+    }
+
+    public GenericTabulator(final int parallelism, final int cacheSize) {
+        pool = new ForkJoinPool(parallelism);
+        cache = new ExpressionCache(cacheSize);
+    }
+
+    public ExpressionCache getCache() {
+        return cache;
+    }
+
+    /**
+     * Shuts down the worker pool of a parallel tabulator; tabulations already running are completed.
+     */
+    public void close() {
+        if (pool != null) {
+            pool.shutdown();
+        }
+    }
+
     public Object[][][] tabulate(final String mode, final String expression, final int x1, final int x2, final int y1, final int y2, final int z1, final int z2) throws ParsingException, EvaluatingException {
-        return calcTable(types.get(mode), expression, x1, x2, y1, y2, z1, z2);
+        return tabulateTable(mode, expression, x1, x2, y1, y2, z1, z2).toArray();
+    }
+
+    public Table tabulateTable(final String mode, final String expression, final int x1, final int x2, final int y1, final int y2, final int z1, final int z2) throws ParsingException {
+        Operations<? extends Number> operations = types.get(mode);
+        if (operations instanceof IntOperations) {
+            return calcIntTable(mode, operations, (IntOperations) operations, expression, x1, x2, y1, y2, z1, z2);
+        }
+        if (operations instanceof DoubleOps) {
+            return calcDoubleTable(mode, operations, (DoubleOps) operations, expression, x1, x2, y1, y2, z1, z2);
+        }
+        if (operations instanceof AdaptiveBigIntegerOperations) {
+            AdaptiveBigIntegerOperations adaptive = (AdaptiveBigIntegerOperations) operations;
+            return calcTable(mode, adaptive, adaptive::toBigInteger, expression, x1, x2, y1, y2, z1, z2);
+        }
+        return calcTable(mode, operations, x -> x, expression, x1, x2, y1, y2, z1, z2);
     }
 
-    private <T> Object[][][] calcTable(final Operations<T> operations, final String expression, final int x1, final int x2, final int y1, final int y2, final int z1, final int z2) throws ParsingException, EvaluatingException {
-        int n = x2 - x1 + 1, m = y2 - y1 + 1, p = z2 - z1 + 1;
-        Object[][][] res = new Object[n][m][p];
-        ExpressionParser<T> parser = new ExpressionParser<>(operations);
-        TripleExpression<T> exp = parser.parse(expression);
+    private <T extends Number> IntTable calcIntTable(final String mode, final Operations<T> literals, final IntOperations operations, final String expression, final int x1, final int x2, final int y1, final int y2, final int z1, final int z2) throws ParsingException {
+        IntExpression parsed = cache.get(mode, expression, () -> new TreeParser<>(literals, new IntExpressionFactory(operations)).parse(expression));
+        int[] xs = intAxis(operations, x1, x2), ys = intAxis(operations, y1, y2), zs = intAxis(operations, z1, z2);
+        IntExpression exp = relax(parsed, operations, xs, ys, zs);
+        IntTable res = new IntTable(xs.length, ys.length, zs.length, operations);
+        IntExpression[] byX = new IntExpression[xs.length];
+        for (int i = 0; i < xs.length; ++i) {
+            byX[i] = exp.fix(IntExpression.Y | IntExpression.Z, xs[i], 0, 0);
+        }
+        fill(res, (i, j, k1, k2) -> {
+            IntExpression row = zs.length > 1 ? byX[i].fix(IntExpression.Z, xs[i], ys[j], 0) : byX[i];
+            for (int k = k1; k < k2; ++k) {
+                try {
+                    res.set(i, j, k, row.evaluate(xs[i], ys[j], zs[k]));
+                } catch (Exception ignored) {
+                }
+            }
+        });
+        return res;
+    }
+
+    private <T extends Number> DoubleTable calcDoubleTable(final String mode, final Operations<T> literals, final DoubleOps operations, final String expression, final int x1, final int x2, final int y1, final int y2, final int z1, final int z2) throws ParsingException {
+        DoubleExpression exp = cache.get(mode, expression, () -> new TreeParser<>(literals, new DoubleExpressionFactory(operations)).parse(expression));
+        double[] xs = doubleAxis(operations, x1, x2), ys = doubleAxis(operations, y1, y2), zs = doubleAxis(operations, z1, z2);
+        DoubleTable res = new DoubleTable(xs.length, ys.length, zs.length, operations);
+        DoubleExpression[] byX = new DoubleExpression[xs.length];
+        for (int i = 0; i < xs.length; ++i) {
+            byX[i] = exp.fix(DoubleExpression.Y | DoubleExpression.Z, xs[i], 0, 0);
+        }
+        fill(res, (i, j, k1, k2) -> {
+            DoubleExpression row = zs.length > 1 ? byX[i].fix(DoubleExpression.Z, xs[i], ys[j], 0) : byX[i];
+            for (int k = k1; k < k2; ++k) {
+                res.set(i, j, k, row.evaluate(xs[i], ys[j], zs[k]));
+            }
+        });
+        return res;
+    }
+
+    private <T, R> ObjectTable<R> calcTable(final String mode, final Operations<T> operations, final Function<? super T, ? extends R> result, final String expression, final int x1, final int x2, final int y1, final int y2, final int z1, final int z2) throws ParsingException {
+        TripleExpression<T> exp = cache.get(mode, expression, () -> new ExpressionParser<>(operations).parse(expression));
+        List<T> xs = axis(operations, x1, x2), ys = axis(operations, y1, y2), zs = axis(operations, z1, z2);
+        ObjectTable<R> res = new ObjectTable<>(xs.size(), ys.size(), zs.size());
+        fill(res, (i, j, k1, k2) -> {
+            T x = xs.get(i), y = ys.get(j);
+            for (int k = k1; k < k2; ++k) {
+                try {
+                    res.set(i, j, k, result.apply(exp.evaluate(x, y, zs.get(k))));
+                } catch (Exception ignored) {
+                }
+            }
+        });
+        return res;
+    }
+
+    private static IntExpression relax(final IntExpression exp, final IntOperations operations, final int[] xs, final int[] ys, final int[] zs) {
+        IntOperations unchecked = operations.unchecked();
+        if (unchecked == null || xs.length == 0 || ys.length == 0 || zs.length == 0) {
+            return exp;
+        }
+        int[] bounds = {
+                Arrays.stream(xs).min().getAsInt(), Arrays.stream(xs).max().getAsInt(),
+                Arrays.stream(ys).min().getAsInt(), Arrays.stream(ys).max().getAsInt(),
+                Arrays.stream(zs).min().getAsInt(), Arrays.stream(zs).max().getAsInt()
+        };
+        return exp.relax(unchecked, bounds, new long[2]);
+    }
+
+    private static int[] intAxis(final IntOperations operations, final int from, final int to) {
+        int[] res = new int[Math.max(0, to - from + 1)];
+        for (int i = 0; i < res.length; ++i) {
+            res[i] = operations.convert(from + i);
+        }
+        return res;
+    }
+
+    private static double[] doubleAxis(final DoubleOps operations, final int from, final int to) {
+        double[] res = new double[Math.max(0, to - from + 1)];
+        for (int i = 0; i < res.length; ++i) {
+            res[i] = operations.convert(from + i);
+        }
+        return res;
+    }
+
+    private static <T> List<T> axis(final Operations<T> operations, final int from, final int to) {
+        int n = Math.max(0, to - from + 1);
+        List<T> res = new ArrayList<>(n);
         for (int i = 0; i < n; ++i) {
-            for (int j = 0; j < m; ++j) {
-                for (int k = 0; k < p; ++k) {
-                    String x = Integer.toString(x1 + i);
-                    String y = Integer.toString(y1 + j);
-                    String z = Integer.toString(z1 + k);
-                    try {
-                        res[i][j][k] = exp.evaluate(operations.parseNumber(x), operations.parseNumber(y), operations.parseNumber(z));
-                    } catch (Exception e) {
-                        res[i][j][k] = null;
+            res.add(operations.fromInt(from + i));
+        }
+        return res;
+    }
+
+    private void fill(final Table res, final RowEvaluator rows) {
+        int n = res.sizeX(), m = res.sizeY(), p = res.sizeZ();
+        if (pool == null || n * (long) m <= 1 || p == 0) {
+            for (int i = 0; i < n; ++i) {
+                for (int j = 0; j < m; ++j) {
+                    rows.fill(i, j, 0, p);
+                }
+            }
+            return;
+        }
+        long threshold = rowsPerTask(rows, p);
+        res.share();
+        pool.invoke(new TabulateTask(rows, 0, n, 0, m, p, threshold));
+    }
+
+    private static long rowsPerTask(final RowEvaluator rows, final int p) {
+        int sample = Math.min(p, SAMPLE_SIZE);
+        long start = System.nanoTime();
+        rows.fill(0, 0, 0, sample);
+        long rowNanos = Math.max(1, (System.nanoTime() - start) * p / sample);
+        return Math.max(1, TASK_NANOS / rowNanos);
+    }
+
+    private interface RowEvaluator {
+        void fill(int i, int j, int k1, int k2);
+    }
+
+    private static class TabulateTask extends RecursiveAction {
+        private static final long serialVersionUID = 1L;
+
+        private final RowEvaluator rows;
+        private final int i1, i2, j1, j2, p;
+        private final long threshold;
+
+        TabulateTask(final RowEvaluator rows, final int i1, final int i2, final int j1, final int j2, final int p, final long threshold) {
+            this.rows = rows;
+            this.i1 = i1;
+            this.i2 = i2;
+            this.j1 = j1;
+            this.j2 = j2;
+            this.p = p;
+            this.threshold = threshold;
+        }
+
+        protected void compute() {
+            int di = i2 - i1, dj = j2 - j1;
+            if ((long) di * dj <= threshold) {
+                for (int i = i1; i < i2; ++i) {
+                    for (int j = j1; j < j2; ++j) {
+                        rows.fill(i, j, 0, p);
                     }
                 }
+            } else if (di >= dj) {
+                int mid = i1 + di / 2;
+                invokeAll(new TabulateTask(rows, i1, mid, j1, j2, p, threshold), new TabulateTask(rows, mid, i2, j1, j2, p, threshold));
+            } else {
+                int mid = j1 + dj / 2;
+                invokeAll(new TabulateTask(rows, i1, i2, j1, mid, p, threshold), new TabulateTask(rows, i1, i2, mid, j2, p, threshold));
             }
         }
-        return res;
     }
 }
@@ -0,0 +1,27 @@
+package expression.generic;
+
+import expression.operations.IntOperations;
+
+public class IntTable extends Table {
+    private final int[] values;
+    private final IntOperations operations;
+
+    IntTable(final int n, final int m, final int p, final IntOperations op) {
+        super(n, m, p);
+        values = new int[n * m * p];
+        operations = op;
+    }
+
+    public int getInt(final int i, final int j, final int k) {
+        return values[index(i, j, k)];
+    }
+
+    public Object get(final int i, final int j, final int k) {
+        return isValid(i, j, k) ? operations.box(getInt(i, j, k)) : null;
+    }
+
+    void set(final int i, final int j, final int k, final int value) {
+        values[index(i, j, k)] = value;
+        setValid(i, j, k);
+    }
+}
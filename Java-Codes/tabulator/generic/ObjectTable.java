@@ -0,0 +1,20 @@
+package expression.generic;
+
+public class ObjectTable<T> extends Table {
+    private final Object[] values;
+
+    ObjectTable(final int n, final int m, final int p) {
+        super(n, m, p);
+        values = new Object[n * m * p];
+    }
+
+    @SuppressWarnings("unchecked")
+    public T get(final int i, final int j, final int k) {
+        return (T) values[index(i, j, k)];
+    }
+
+    void set(final int i, final int j, final int k, final T value) {
+        values[index(i, j, k)] = value;
+        setValid(i, j, k);
+    }
+}
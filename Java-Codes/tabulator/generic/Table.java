@@ -0,0 +1,82 @@
+package expression.generic;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+
+/**
+ * Tabulation result stored in one flat array indexed as {@code (i * sizeY + j) * sizeZ + k}.
+ * Successfully evaluated cells are marked in a validity bitmap with one bit per cell. A table filled serially
+ * sets bits with plain writes. Once {@link #share() shared} between tasks, each of which fills whole rows
+ * {@code (i, j)}, a word lying inside one row still belongs to a single task and is written plainly; only words
+ * spanning a row boundary are set with an atomic or.
+ */
+public abstract class Table {
+    private static final VarHandle WORDS = MethodHandles.arrayElementVarHandle(long[].class);
+
+    private final int n, m, p;
+    private final long[] valid;
+    private boolean shared;
+
+    Table(final int n, final int m, final int p) {
+        long size = (long) n * m * p;
+        if (size > Integer.MAX_VALUE - 8) {
+            throw new IllegalArgumentException("Table is too big: " + size + " cells");
+        }
+        this.n = n;
+        this.m = m;
+        this.p = p;
+        valid = new long[(int) ((size + 63) >>> 6)];
+    }
+
+    public int sizeX() {
+        return n;
+    }
+
+    public int sizeY() {
+        return m;
+    }
+
+    public int sizeZ() {
+        return p;
+    }
+
+    protected int index(final int i, final int j, final int k) {
+        return (i * m + j) * p + k;
+    }
+
+    public boolean isValid(final int i, final int j, final int k) {
+        int index = index(i, j, k);
+        return (valid[index >>> 6] & (1L << index)) != 0;
+    }
+
+    /**
+     * Marks that rows are about to be filled by concurrent tasks; must be called before the tasks are started.
+     */
+    void share() {
+        shared = true;
+    }
+
+    protected void setValid(final int i, final int j, final int k) {
+        int index = index(i, j, k);
+        long row = index - k, word = index & ~63L;
+        if (!shared || row <= word && word + 64 <= row + p) {
+            valid[index >>> 6] |= 1L << index;
+        } else {
+            WORDS.getAndBitwiseOr(valid, index >>> 6, 1L << index);
+        }
+    }
+
+    public abstract Object get(final int i, final int j, final int k);
+
+    public Object[][][] toArray() {
+        Object[][][] res = new Object[n][m][p];
+        for (int i = 0; i < n; ++i) {
+            for (int j = 0; j < m; ++j) {
+                for (int k = 0; k < p; ++k) {
+                    res[i][j][k] = get(i, j, k);
+                }
+            }
+        }
+        return res;
+    }
+}
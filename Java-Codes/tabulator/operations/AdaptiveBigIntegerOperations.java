@@ -0,0 +1,119 @@
+package expression.operations;
+
+import expression.exceptions.DivisionByZeroException;
+import expression.exceptions.IncorrectConstException;
+import expression.exceptions.ModulingByZeroException;
+
+import java.math.BigInteger;
+
+/**
+ * Same results as {@link BigIntegerOperations}, but values that fit in 64 bits are kept as {@link Long}
+ * and computed with primitive arithmetic. A result is promoted to {@link BigInteger} only when it overflows
+ * and demoted back as soon as it fits again, so every value is a {@code Long} exactly when it fits in one.
+ */
+public class AdaptiveBigIntegerOperations implements Operations<Number> {
+
+    private static final DivisionByZeroException DIVISION_BY_ZERO = new DivisionByZeroException();
+    private static final ModulingByZeroException MODULING_BY_ZERO = new ModulingByZeroException();
+
+    private final boolean flag;
+
+    public AdaptiveBigIntegerOperations(final boolean toCheck) {
+        flag = toCheck;
+    }
+
+    public BigInteger toBigInteger(final Number x) {
+        return x instanceof Long ? BigInteger.valueOf(x.longValue()) : (BigInteger) x;
+    }
+
+    private static Number normalize(final BigInteger x) {
+        return x.bitLength() < Long.SIZE ? (Number) x.longValue() : x;
+    }
+
+    public Number parseNumber(final String s) throws IncorrectConstException {
+        try {
+            return normalize(new BigInteger(s));
+        } catch (NumberFormatException e) {
+            throw new IncorrectConstException();
+        }
+    }
+
+    public Number fromInt(final int x) {
+        return (long) x;
+    }
+
+    public Number add(final Number x, final Number y) {
+        if (x instanceof Long && y instanceof Long) {
+            final long a = x.longValue(), b = y.longValue(), r = a + b;
+            if (((a ^ r) & (b ^ r)) >= 0) {
+                return r;
+            }
+        }
+        return normalize(toBigInteger(x).add(toBigInteger(y)));
+    }
+
+    public Number subtract(final Number x, final Number y) {
+        if (x instanceof Long && y instanceof Long) {
+            final long a = x.longValue(), b = y.longValue(), r = a - b;
+            if (((a ^ b) & (a ^ r)) >= 0) {
+                return r;
+            }
+        }
+        return normalize(toBigInteger(x).subtract(toBigInteger(y)));
+    }
+
+    public Number multiply(final Number x, final Number y) {
+        if (x instanceof Long && y instanceof Long) {
+            final long a = x.longValue(), b = y.longValue();
+            if (LongOperations.fitsProduct(a, b)) {
+                return a * b;
+            }
+        }
+        return normalize(toBigInteger(x).multiply(toBigInteger(y)));
+    }
+
+    public Number divide(final Number x, final Number y) throws DivisionByZeroException {
+        if (flag && isZero(y)) {
+            throw DIVISION_BY_ZERO;
+        }
+        if (x instanceof Long && y instanceof Long) {
+            final long a = x.longValue(), b = y.longValue();
+            if (a != Long.MIN_VALUE || b != -1) {
+                return a / b;
+            }
+        }
+        return normalize(toBigInteger(x).divide(toBigInteger(y)));
+    }
+
+    public Number negate(final Number x) {
+        if (x instanceof Long && x.longValue() != Long.MIN_VALUE) {
+            return -x.longValue();
+        }
+        return normalize(toBigInteger(x).negate());
+    }
+
+    public Number abs(final Number x) {
+        if (x instanceof Long && x.longValue() != Long.MIN_VALUE) {
+            return Math.abs(x.longValue());
+        }
+        return normalize(toBigInteger(x).abs());
+    }
+
+    public Number sqr(final Number x) {
+        return multiply(x, x);
+    }
+
+    public Number mod(final Number x, final Number y) throws ModulingByZeroException {
+        if (flag && isZero(y)) {
+            throw MODULING_BY_ZERO;
+        }
+        if (x instanceof Long && y instanceof Long && y.longValue() > 0) {
+            return Math.floorMod(x.longValue(), y.longValue());
+        }
+        return normalize(toBigInteger(x).mod(toBigInteger(y)));
+    }
+
+    private static boolean isZero(final Number x) {
+        return x instanceof Long && x.longValue() == 0;
+    }
+}
@@ -9,6 +9,9 @@ import java.math.BigInteger;
 
 public class BigIntegerOperations implements Operations<BigInteger> {
 
+    private static final DivisionByZeroException DIVISION_BY_ZERO = new DivisionByZeroException();
+    private static final ModulingByZeroException MODULING_BY_ZERO = new ModulingByZeroException();
+
     private final boolean flag;
 
     public BigIntegerOperations(final boolean toCheck) {
@@ -23,6 +26,10 @@ public class BigIntegerOperations implements Operations<BigInteger> {
         }
     }
 
+    public BigInteger fromInt(final int x) {
+        return BigInteger.valueOf(x);
+    }
+
     public BigInteger add(final BigInteger x, final BigInteger y) {
         return x.add(y);
     }
@@ -37,7 +44,7 @@ public class BigIntegerOperations implements Operations<BigInteger> {
 
     private void checkDivide(final BigInteger y) throws DivisionByZeroException {
         if (y.equals(BigInteger.ZERO)) {
-            throw new DivisionByZeroException();
+            throw DIVISION_BY_ZERO;
         }
     }
 
@@ -62,7 +69,7 @@ public class BigIntegerOperations implements Operations<BigInteger> {
 
     private void checkMod(final BigInteger y) throws ModulingByZeroException {
         if (y.equals(BigInteger.ZERO)) {
-            throw new ModulingByZeroException();
+            throw MODULING_BY_ZERO;
         }
     }
 
@@ -5,12 +5,16 @@ import expression.exceptions.IncorrectConstException;
 import expression.exceptions.ModulingByZeroException;
 import expression.exceptions.OverflowException;
 
-public class ByteOperations implements Operations<Byte> {
+public class ByteOperations implements Operations<Byte>, IntOperations {
     
     public Byte parseNumber(final String s) throws IncorrectConstException {
         return (byte) Integer.parseInt(s);
     }
 
+    public Byte fromInt(final int x) {
+        return (byte) x;
+    }
+
     public Byte add(final Byte x, final Byte y) throws OverflowException {
         return (byte) (x + y);
     }
@@ -42,4 +46,48 @@ public class ByteOperations implements Operations<Byte> {
     public Byte mod(Byte x, Byte y) throws DivisionByZeroException, ModulingByZeroException {
         return (byte) (x % y);
     }
+
+    public IntOperations unchecked() {
+        return null;
+    }
+
+    public int convert(final int x) {
+        return (byte) x;
+    }
+
+    public Number box(final int x) {
+        return (byte) x;
+    }
+
+    public int add(final int x, final int y) {
+        return (byte) (x + y);
+    }
+
+    public int subtract(final int x, final int y) {
+        return (byte) (x - y);
+    }
+
+    public int divide(final int x, final int y) {
+        return (byte) (x / y);
+    }
+
+    public int multiply(final int x, final int y) {
+        return (byte) (x * y);
+    }
+
+    public int negate(final int x) {
+        return (byte) (-x);
+    }
+
+    public int abs(final int x) {
+        return (byte) Math.abs(x);
+    }
+
+    public int sqr(final int x) {
+        return (byte) (x * x);
+    }
+
+    public int mod(final int x, final int y) {
+        return (byte) (x % y);
+    }
 }
@@ -3,7 +3,7 @@ package expression.operations;
 import expression.exceptions.DivisionByZeroException;
 import expression.exceptions.IncorrectConstException;
 
-public class DoubleOperations implements Operations<Double> {
+public class DoubleOperations implements Operations<Double>, DoubleOps {
 
     public Double parseNumber(final String s) throws IncorrectConstException {
         try {
@@ -13,6 +13,10 @@ public class DoubleOperations implements Operations<Double> {
         }
     }
 
+    public Double fromInt(final int x) {
+        return (double) x;
+    }
+
     public Double abs(final Double x) {
         return Math.abs(x);
     }
@@ -44,4 +48,44 @@ public class DoubleOperations implements Operations<Double> {
     public Double divide(final Double x, final Double y) {
         return x / y;
     }
+
+    public double convert(final int x) {
+        return x;
+    }
+
+    public Number box(final double x) {
+        return x;
+    }
+
+    public double abs(final double x) {
+        return Math.abs(x);
+    }
+
+    public double sqr(final double x) {
+        return x * x;
+    }
+
+    public double mod(final double x, final double y) {
+        return x % y;
+    }
+
+    public double add(final double x, final double y) {
+        return x + y;
+    }
+
+    public double subtract(final double x, final double y) {
+        return x - y;
+    }
+
+    public double multiply(final double x, final double y) {
+        return x * y;
+    }
+
+    public double negate(final double x) {
+        return -x;
+    }
+
+    public double divide(final double x, final double y) {
+        return x / y;
+    }
 }
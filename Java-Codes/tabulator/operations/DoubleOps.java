@@ -0,0 +1,23 @@
+package expression.operations;
+
+public interface DoubleOps {
+    double convert(final int x);
+
+    Number box(final double x);
+
+    double add(final double x, final double y);
+
+    double subtract(final double x, final double y);
+
+    double divide(final double x, final double y);
+
+    double multiply(final double x, final double y);
+
+    double negate(final double x);
+
+    double abs(final double x);
+
+    double sqr(final double x);
+
+    double mod(final double x, final double y);
+}
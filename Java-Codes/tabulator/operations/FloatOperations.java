@@ -5,7 +5,7 @@ import expression.exceptions.IncorrectConstException;
 import expression.exceptions.ModulingByZeroException;
 import expression.exceptions.OverflowException;
 
-public class FloatOperations implements Operations<Float> {
+public class FloatOperations implements Operations<Float>, DoubleOps {
 
     public Float parseNumber(final String s) throws IncorrectConstException {
         try {
@@ -15,6 +15,10 @@ public class FloatOperations implements Operations<Float> {
         }
     }
 
+    public Float fromInt(final int x) {
+        return (float) x;
+    }
+
     public Float add(final Float x, final Float y) throws OverflowException {
         return x + y;
     }
@@ -46,4 +50,44 @@ public class FloatOperations implements Operations<Float> {
     public Float mod(Float x, Float y) throws DivisionByZeroException, ModulingByZeroException {
         return x % y;
     }
+
+    public double convert(final int x) {
+        return (float) x;
+    }
+
+    public Number box(final double x) {
+        return (float) x;
+    }
+
+    public double add(final double x, final double y) {
+        return (float) (x + y);
+    }
+
+    public double subtract(final double x, final double y) {
+        return (float) (x - y);
+    }
+
+    public double divide(final double x, final double y) {
+        return (float) (x / y);
+    }
+
+    public double multiply(final double x, final double y) {
+        return (float) (x * y);
+    }
+
+    public double negate(final double x) {
+        return -x;
+    }
+
+    public double abs(final double x) {
+        return Math.abs(x);
+    }
+
+    public double sqr(final double x) {
+        return (float) (x * x);
+    }
+
+    public double mod(final double x, final double y) {
+        return (float) (x % y);
+    }
 }
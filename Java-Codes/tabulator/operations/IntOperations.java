@@ -0,0 +1,33 @@
+package expression.operations;
+
+import expression.exceptions.DivisionByZeroException;
+import expression.exceptions.ModulingByZeroException;
+import expression.exceptions.OverflowException;
+
+public interface IntOperations {
+    /**
+     * Returns operations that give the same results as these ones whenever these ones succeed,
+     * or {@code null} if these operations never fail on overflow.
+     */
+    IntOperations unchecked();
+
+    int convert(final int x);
+
+    Number box(final int x);
+
+    int add(final int x, final int y) throws OverflowException;
+
+    int subtract(final int x, final int y) throws OverflowException;
+
+    int divide(final int x, final int y) throws OverflowException, DivisionByZeroException;
+
+    int multiply(final int x, final int y) throws OverflowException;
+
+    int negate(final int x) throws OverflowException;
+
+    int abs(final int x) throws OverflowException;
+
+    int sqr(final int x) throws OverflowException;
+
+    int mod(final int x, final int y) throws DivisionByZeroException, ModulingByZeroException;
+}
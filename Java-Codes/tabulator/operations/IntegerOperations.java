@@ -5,7 +5,19 @@ import expression.exceptions.IncorrectConstException;
 import expression.exceptions.ModulingByZeroException;
 import expression.exceptions.OverflowException;
 
-public class IntegerOperations implements Operations<Integer> {
+public class IntegerOperations implements Operations<Integer>, IntOperations {
+
+    private static final OverflowException ADD_OVERFLOW = new OverflowException("Overflow when adding");
+    private static final OverflowException SUBTRACT_OVERFLOW = new OverflowException("Overflow when subtracting");
+    private static final OverflowException NEGATE_OVERFLOW = new OverflowException("Overflow when negating");
+    private static final OverflowException ABS_OVERFLOW = new OverflowException("Overflow while calculating absolute value");
+    private static final OverflowException SQR_OVERFLOW = new OverflowException("Overflow while calculating square");
+    private static final ModulingByZeroException MODULING_BY_ZERO = new ModulingByZeroException();
+    private static final OverflowException MULTIPLY_OVERFLOW = new OverflowException("Overflow when multiplying");
+    private static final DivisionByZeroException DIVISION_BY_ZERO = new DivisionByZeroException();
+    private static final OverflowException DIVIDE_OVERFLOW = new OverflowException("Overflow when dividing");
+
+    private static final IntegerOperations UNCHECKED = new IntegerOperations(false);
 
     private final boolean flag;
 
@@ -21,130 +33,159 @@ public class IntegerOperations implements Operations<Integer> {
         }
     }
 
-    private void checkAdd(final Integer x, final Integer y) throws OverflowException {
-        if (y < 0) {
-            if (x < Integer.MIN_VALUE - y) {
-                throw new OverflowException("Overflow when adding");
-            }
-        } else {
-            if (x > Integer.MAX_VALUE - y) {
-                throw new OverflowException("Overflow when adding");
-            }
+    public Integer fromInt(final int x) {
+        return x;
+    }
+
+    public IntOperations unchecked() {
+        return flag ? UNCHECKED : null;
+    }
+
+    public int convert(final int x) {
+        return x;
+    }
+
+    public Number box(final int x) {
+        return x;
+    }
+
+    private void checkAdd(final int x, final int y) throws OverflowException {
+        final int r = x + y;
+        if (((x ^ r) & (y ^ r)) < 0) {
+            throw ADD_OVERFLOW;
         }
     }
 
     public Integer add(final Integer x, final Integer y) throws OverflowException {
+        return add(x.intValue(), y.intValue());
+    }
+
+    public int add(final int x, final int y) throws OverflowException {
         if (flag) {
             checkAdd(x, y);
         }
         return x + y;
     }
 
-    private void checkSubtract(final Integer x, final Integer y) throws OverflowException {
-        if (y < 0) {
-            if (x > Integer.MAX_VALUE + y) {
-                throw new OverflowException("Overflow when subtracting");
-            }
-        } else {
-            if (x < Integer.MIN_VALUE + y) {
-                throw new OverflowException("Overflow when subtracting");
-            }
+    private void checkSubtract(final int x, final int y) throws OverflowException {
+        final int r = x - y;
+        if (((x ^ y) & (x ^ r)) < 0) {
+            throw SUBTRACT_OVERFLOW;
         }
     }
 
     public Integer subtract(final Integer x, final Integer y) throws OverflowException {
+        return subtract(x.intValue(), y.intValue());
+    }
+
+    public int subtract(final int x, final int y) throws OverflowException {
         if (flag) {
             checkSubtract(x, y);
         }
         return x - y;
     }
 
-    private void checkNegate(final Integer x) throws OverflowException {
+    private void checkNegate(final int x) throws OverflowException {
         if (x == Integer.MIN_VALUE) {
-            throw new OverflowException("Overflow when negating");
+            throw NEGATE_OVERFLOW;
         }
     }
 
     public Integer negate(final Integer x) throws OverflowException {
+        return negate(x.intValue());
+    }
+
+    public int negate(final int x) throws OverflowException {
         if (flag) {
             checkNegate(x);
         }
         return -x;
     }
 
-    private void checkAbs(final Integer x) throws OverflowException {
+    private void checkAbs(final int x) throws OverflowException {
         if (x == Integer.MIN_VALUE) {
-            throw new OverflowException("Overflow while calculating absolute value");
+            throw ABS_OVERFLOW;
         }
     }
 
     public Integer abs(final Integer x) throws OverflowException {
+        return abs(x.intValue());
+    }
+
+    public int abs(final int x) throws OverflowException {
         if (flag) {
             checkAbs(x);
         }
         return Math.abs(x);
     }
 
-    private void checkSqr(final Integer x) throws OverflowException {
-        try {
-            checkMultiply(x, x);
-        } catch (OverflowException e) {
-            throw new OverflowException("Overflow while calculating square");
+    private void checkSqr(final int x) throws OverflowException {
+        final long r = (long) x * x;
+        if ((int) r != r) {
+            throw SQR_OVERFLOW;
         }
     }
 
     public Integer sqr(final Integer x) throws OverflowException {
+        return sqr(x.intValue());
+    }
+
+    public int sqr(final int x) throws OverflowException {
         if (flag) {
             checkSqr(x);
         }
         return x * x;
     }
 
-    private void checkMod(final Integer x, final Integer y) throws ModulingByZeroException {
+    private void checkMod(final int x, final int y) throws ModulingByZeroException {
         if (y == 0) {
-            throw new ModulingByZeroException();
+            throw MODULING_BY_ZERO;
         }
     }
 
     public Integer mod(final Integer x, final Integer y) throws ModulingByZeroException {
+        return mod(x.intValue(), y.intValue());
+    }
+
+    public int mod(final int x, final int y) throws ModulingByZeroException {
         if (flag) {
             checkMod(x, y);
         }
         return x % y;
     }
 
-    private void checkMultiply(final Integer x, final Integer y) throws OverflowException {
-        if (x < 0 && y < 0 && x < Integer.MAX_VALUE / y) {
-            throw new OverflowException("Overflow when multiplying");
-        }
-        if (x < 0 && y > 0 && x < Integer.MIN_VALUE / y) {
-            throw new OverflowException("Overflow when multiplying");
-        }
-        if (x > 0 && y < 0 && y < Integer.MIN_VALUE / x) {
-            throw new OverflowException("Overflow when multiplying");
-        }
-        if (x > 0 && y > 0 && x > Integer.MAX_VALUE / y) {
-            throw new OverflowException("Overflow when multiplying");
+    private void checkMultiply(final int x, final int y) throws OverflowException {
+        final long r = (long) x * y;
+        if ((int) r != r) {
+            throw MULTIPLY_OVERFLOW;
         }
     }
 
     public Integer multiply(final Integer x, final Integer y) throws OverflowException {
+        return multiply(x.intValue(), y.intValue());
+    }
+
+    public int multiply(final int x, final int y) throws OverflowException {
         if (flag) {
             checkMultiply(x, y);
         }
         return x * y;
     }
 
-    private void checkDivide(final Integer x, final Integer y) throws DivisionByZeroException, OverflowException {
+    private void checkDivide(final int x, final int y) throws DivisionByZeroException, OverflowException {
         if (y == 0) {
-            throw new DivisionByZeroException();
+            throw DIVISION_BY_ZERO;
         }
         if (x == Integer.MIN_VALUE && y == -1) {
-            throw new OverflowException("Overflow when dividing");
+            throw DIVIDE_OVERFLOW;
         }
     }
 
     public Integer divide(final Integer x, final Integer y) throws DivisionByZeroException, OverflowException {
+        return divide(x.intValue(), y.intValue());
+    }
+
+    public int divide(final int x, final int y) throws DivisionByZeroException, OverflowException {
         if (flag) {
             checkDivide(x, y);
         }
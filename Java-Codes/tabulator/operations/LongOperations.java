@@ -0,0 +1,151 @@
+package expression.operations;
+
+import expression.exceptions.DivisionByZeroException;
+import expression.exceptions.IncorrectConstException;
+import expression.exceptions.ModulingByZeroException;
+import expression.exceptions.OverflowException;
+
+public class LongOperations implements Operations<Long> {
+
+    private static final OverflowException ADD_OVERFLOW = new OverflowException("Overflow when adding");
+    private static final OverflowException SUBTRACT_OVERFLOW = new OverflowException("Overflow when subtracting");
+    private static final OverflowException NEGATE_OVERFLOW = new OverflowException("Overflow when negating");
+    private static final OverflowException ABS_OVERFLOW = new OverflowException("Overflow while calculating absolute value");
+    private static final OverflowException SQR_OVERFLOW = new OverflowException("Overflow while calculating square");
+    private static final ModulingByZeroException MODULING_BY_ZERO = new ModulingByZeroException();
+    private static final OverflowException MULTIPLY_OVERFLOW = new OverflowException("Overflow when multiplying");
+    private static final DivisionByZeroException DIVISION_BY_ZERO = new DivisionByZeroException();
+    private static final OverflowException DIVIDE_OVERFLOW = new OverflowException("Overflow when dividing");
+
+    private final boolean flag;
+
+    public LongOperations(final boolean toCheck) {
+        flag = toCheck;
+    }
+
+    public Long parseNumber(final String s) throws IncorrectConstException {
+        try {
+            return Long.parseLong(s);
+        } catch (NumberFormatException e) {
+            throw new IncorrectConstException();
+        }
+    }
+
+    public Long fromInt(final int x) {
+        return (long) x;
+    }
+
+    static boolean fitsProduct(final long x, final long y) {
+        final long high = Math.multiplyHigh(x, y);
+        return high == (x * y) >> 63;
+    }
+
+    private void checkAdd(final long x, final long y) throws OverflowException {
+        final long r = x + y;
+        if (((x ^ r) & (y ^ r)) < 0) {
+            throw ADD_OVERFLOW;
+        }
+    }
+
+    public Long add(final Long x, final Long y) throws OverflowException {
+        if (flag) {
+            checkAdd(x, y);
+        }
+        return x + y;
+    }
+
+    private void checkSubtract(final long x, final long y) throws OverflowException {
+        final long r = x - y;
+        if (((x ^ y) & (x ^ r)) < 0) {
+            throw SUBTRACT_OVERFLOW;
+        }
+    }
+
+    public Long subtract(final Long x, final Long y) throws OverflowException {
+        if (flag) {
+            checkSubtract(x, y);
+        }
+        return x - y;
+    }
+
+    private void checkNegate(final long x) throws OverflowException {
+        if (x == Long.MIN_VALUE) {
+            throw NEGATE_OVERFLOW;
+        }
+    }
+
+    public Long negate(final Long x) throws OverflowException {
+        if (flag) {
+            checkNegate(x);
+        }
+        return -x;
+    }
+
+    private void checkAbs(final long x) throws OverflowException {
+        if (x == Long.MIN_VALUE) {
+            throw ABS_OVERFLOW;
+        }
+    }
+
+    public Long abs(final Long x) throws OverflowException {
+        if (flag) {
+            checkAbs(x);
+        }
+        return Math.abs(x);
+    }
+
+    private void checkSqr(final long x) throws OverflowException {
+        if (!fitsProduct(x, x)) {
+            throw SQR_OVERFLOW;
+        }
+    }
+
+    public Long sqr(final Long x) throws OverflowException {
+        if (flag) {
+            checkSqr(x);
+        }
+        return x * x;
+    }
+
+    private void checkMod(final long y) throws ModulingByZeroException {
+        if (y == 0) {
+            throw MODULING_BY_ZERO;
+        }
+    }
+
+    public Long mod(final Long x, final Long y) throws ModulingByZeroException {
+        if (flag) {
+            checkMod(y);
+        }
+        return x % y;
+    }
+
+    private void checkMultiply(final long x, final long y) throws OverflowException {
+        if (!fitsProduct(x, y)) {
+            throw MULTIPLY_OVERFLOW;
+        }
+    }
+
+    public Long multiply(final Long x, final Long y) throws OverflowException {
+        if (flag) {
+            checkMultiply(x, y);
+        }
+        return x * y;
+    }
+
+    private void checkDivide(final long x, final long y) throws DivisionByZeroException, OverflowException {
+        if (y == 0) {
+            throw DIVISION_BY_ZERO;
+        }
+        if (x == Long.MIN_VALUE && y == -1) {
+            throw DIVIDE_OVERFLOW;
+        }
+    }
+
+    public Long divide(final Long x, final Long y) throws DivisionByZeroException, OverflowException {
+        if (flag) {
+            checkDivide(x, y);
+        }
+        return x / y;
+    }
+}
@@ -8,6 +8,8 @@ import expression.exceptions.OverflowException;
 public interface Operations<T> {
     T parseNumber(final String s) throws IncorrectConstException;
 
+    T fromInt(final int x);
+
     T add(final T x, final T y) throws OverflowException;
 
     T subtract(final T x, final T y) throws OverflowException;
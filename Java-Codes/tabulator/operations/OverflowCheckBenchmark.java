@@ -0,0 +1,209 @@
+package expression.operations;
+
+import expression.exceptions.OverflowException;
+
+import java.util.Random;
+
+/**
+ * Per-operation cost of checked {@code add}, {@code subtract} and {@code multiply} in {@link IntegerOperations}:
+ * the former division- and branch-based checks, the current widening and sign-bit checks, and unchecked
+ * {@code IntegerOperations(false)}, in nanoseconds per operation. Operands are timed twice: all in range, which
+ * measures the checks alone, and mixed with boundary and random values, where throwing on overflow dominates.
+ * {@code Checkers} in the expression parser uses the same checks. Both kinds of checks must report overflow for exactly the same operands;
+ * exits with status 1 otherwise.
+ * Usage: {@code OverflowCheckBenchmark [operand pairs] [rounds]}.
+ */
+public class OverflowCheckBenchmark {
+    private static final int ADD = 0, SUBTRACT = 1, MULTIPLY = 2;
+    private static final String[] NAMES = {"add", "subtract", "multiply"};
+
+    public static void main(String[] args) {
+        int count = args.length > 0 ? Integer.parseInt(args[0]) : 10_000_000;
+        int rounds = args.length > 1 ? Integer.parseInt(args[1]) : 5;
+
+        Random random = new Random(1);
+        int[] xs = new int[count], ys = new int[count], smallXs = new int[count], smallYs = new int[count];
+        int[] boundary = {0, 1, -1, 2, -2, 46340, 46341, -46341, Integer.MAX_VALUE, Integer.MIN_VALUE, Integer.MAX_VALUE - 1, Integer.MIN_VALUE + 1};
+        for (int i = 0; i < count; ++i) {
+            xs[i] = operand(random, boundary);
+            ys[i] = operand(random, boundary);
+            smallXs[i] = random.nextInt(2001) - 1000;
+            smallYs[i] = random.nextInt(2001) - 1000;
+        }
+
+        IntegerOperations checked = new IntegerOperations(true), unchecked = new IntegerOperations(false);
+        DivisionChecks old = new DivisionChecks();
+        boolean agree = true;
+        for (int operation = ADD; operation <= MULTIPLY; ++operation) {
+            for (int i = 0; i < count; ++i) {
+                agree &= overflows(old, operation, xs[i], ys[i]) == overflows(checked, operation, xs[i], ys[i]);
+            }
+        }
+        System.out.println(agree ? "old and new checks agree" : "old and new checks disagree");
+
+        for (int round = 0; round < rounds; ++round) {
+            System.out.println("round " + round);
+            benchmark("  in range:", old, checked, unchecked, smallXs, smallYs);
+            benchmark("  mixed:   ", old, checked, unchecked, xs, ys);
+        }
+        if (!agree) {
+            System.exit(1);
+        }
+    }
+
+    private static void benchmark(String name, DivisionChecks old, IntegerOperations checked, IntegerOperations unchecked, int[] xs, int[] ys) {
+        StringBuilder line = new StringBuilder(name);
+        for (int operation = ADD; operation <= MULTIPLY; ++operation) {
+            long time = System.nanoTime();
+            long before = runOld(old, operation, xs, ys);
+            double oldNanos = (double) (System.nanoTime() - time) / xs.length;
+            time = System.nanoTime();
+            long current = run(checked, operation, xs, ys);
+            double newNanos = (double) (System.nanoTime() - time) / xs.length;
+            time = System.nanoTime();
+            run(unchecked, operation, xs, ys);
+            double uncheckedNanos = (double) (System.nanoTime() - time) / xs.length;
+            line.append(String.format(" %s old %.2f, new %.2f, unchecked %.2f ns%s;",
+                    NAMES[operation], oldNanos, newNanos, uncheckedNanos, before == current ? "" : " (results differ)"));
+        }
+        System.out.println(line);
+    }
+
+    private static int operand(Random random, int[] boundary) {
+        switch (random.nextInt(8)) {
+            case 0:
+                return random.nextInt();
+            case 1:
+                return boundary[random.nextInt(boundary.length)];
+            default:
+                return random.nextInt(2001) - 1000;
+        }
+    }
+
+    private static boolean overflows(IntegerOperations operations, int operation, int x, int y) {
+        try {
+            apply(operations, operation, x, y);
+            return false;
+        } catch (OverflowException e) {
+            return true;
+        }
+    }
+
+    private static int apply(IntegerOperations operations, int operation, int x, int y) throws OverflowException {
+        switch (operation) {
+            case ADD:
+                return operations.add(x, y);
+            case SUBTRACT:
+                return operations.subtract(x, y);
+            default:
+                return operations.multiply(x, y);
+        }
+    }
+
+    private static long run(IntegerOperations operations, int operation, int[] xs, int[] ys) {
+        long sum = 0;
+        for (int i = 0; i < xs.length; ++i) {
+            try {
+                sum += apply(operations, operation, xs[i], ys[i]);
+            } catch (OverflowException e) {
+                --sum;
+            }
+        }
+        return sum;
+    }
+
+    private static boolean overflows(DivisionChecks operations, int operation, int x, int y) {
+        try {
+            applyOld(operations, operation, x, y);
+            return false;
+        } catch (OverflowException e) {
+            return true;
+        }
+    }
+
+    private static int applyOld(DivisionChecks operations, int operation, int x, int y) throws OverflowException {
+        switch (operation) {
+            case ADD:
+                return operations.add(x, y);
+            case SUBTRACT:
+                return operations.subtract(x, y);
+            default:
+                return operations.multiply(x, y);
+        }
+    }
+
+    private static long runOld(DivisionChecks operations, int operation, int[] xs, int[] ys) {
+        long sum = 0;
+        for (int i = 0; i < xs.length; ++i) {
+            try {
+                sum += applyOld(operations, operation, xs[i], ys[i]);
+            } catch (OverflowException e) {
+                --sum;
+            }
+        }
+        return sum;
+    }
+
+    /**
+     * The checks {@link IntegerOperations} used before, in the same method structure.
+     */
+    private static class DivisionChecks {
+        private static final OverflowException ADD_OVERFLOW = new OverflowException("Overflow when adding");
+        private static final OverflowException SUBTRACT_OVERFLOW = new OverflowException("Overflow when subtracting");
+        private static final OverflowException MULTIPLY_OVERFLOW = new OverflowException("Overflow when multiplying");
+
+        private void checkAdd(final int x, final int y) throws OverflowException {
+            if (y < 0) {
+                if (x < Integer.MIN_VALUE - y) {
+                    throw ADD_OVERFLOW;
+                }
+            } else {
+                if (x > Integer.MAX_VALUE - y) {
+                    throw ADD_OVERFLOW;
+                }
+            }
+        }
+
+        int add(final int x, final int y) throws OverflowException {
+            checkAdd(x, y);
+            return x + y;
+        }
+
+        private void checkSubtract(final int x, final int y) throws OverflowException {
+            if (y < 0) {
+                if (x > Integer.MAX_VALUE + y) {
+                    throw SUBTRACT_OVERFLOW;
+                }
+            } else {
+                if (x < Integer.MIN_VALUE + y) {
+                    throw SUBTRACT_OVERFLOW;
+                }
+            }
+        }
+
+        int subtract(final int x, final int y) throws OverflowException {
+            checkSubtract(x, y);
+            return x - y;
+        }
+
+        private void checkMultiply(final int x, final int y) throws OverflowException {
+            if (x < 0 && y < 0 && x < Integer.MAX_VALUE / y) {
+                throw MULTIPLY_OVERFLOW;
+            }
+            if (x < 0 && y > 0 && x < Integer.MIN_VALUE / y) {
+                throw MULTIPLY_OVERFLOW;
+            }
+            if (x > 0 && y < 0 && y < Integer.MIN_VALUE / x) {
+                throw MULTIPLY_OVERFLOW;
+            }
+            if (x > 0 && y > 0 && x > Integer.MAX_VALUE / y) {
+                throw MULTIPLY_OVERFLOW;
+            }
+        }
+
+        int multiply(final int x, final int y) throws OverflowException {
+            checkMultiply(x, y);
+            return x * y;
+        }
+    }
+}
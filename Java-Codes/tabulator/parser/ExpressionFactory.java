@@ -0,0 +1,23 @@
+package expression.parser;
+
+public interface ExpressionFactory<T, E> {
+    E constant(final T value);
+
+    E variable(final char name);
+
+    E negate(final E x);
+
+    E abs(final E x);
+
+    E sqr(final E x);
+
+    E add(final E x, final E y);
+
+    E subtract(final E x, final E y);
+
+    E multiply(final E x, final E y);
+
+    E divide(final E x, final E y);
+
+    E mod(final E x, final E y);
+}
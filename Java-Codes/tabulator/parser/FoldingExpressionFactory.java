@@ -0,0 +1,136 @@
+package expression.parser;
+
+import expression.exceptions.EvaluatingException;
+import expression.operations.Operations;
+
+import java.util.IdentityHashMap;
+import java.util.Map;
+
+/**
+ * Folds operations over constants while the tree is being built and drops identity operations
+ * ({@code x - 0}, {@code x * 1}, {@code x / 1}, and {@code x + 0} where the type has no signed zero).
+ * Operations on constants that fail are built as usual, so they still fail when evaluated.
+ */
+class FoldingExpressionFactory<T, E> implements ExpressionFactory<T, E> {
+    private final Operations<T> operations;
+    private final ExpressionFactory<? super T, E> factory;
+    private final Map<E, T> constants = new IdentityHashMap<>();
+    private final T zero, one;
+    private final boolean signedZero;
+
+    FoldingExpressionFactory(final Operations<T> op, final ExpressionFactory<? super T, E> newFactory) {
+        operations = op;
+        factory = newFactory;
+        zero = op.fromInt(0);
+        one = op.fromInt(1);
+        signedZero = !zero.equals(negateOrNull(zero));
+    }
+
+    private T negateOrNull(final T x) {
+        try {
+            return operations.negate(x);
+        } catch (EvaluatingException e) {
+            return null;
+        }
+    }
+
+    private boolean isConst(final E x, final T value) {
+        return constants.containsKey(x) && value.equals(constants.get(x));
+    }
+
+    public E constant(final T value) {
+        E res = factory.constant(value);
+        constants.put(res, value);
+        return res;
+    }
+
+    public E variable(final char name) {
+        return factory.variable(name);
+    }
+
+    private interface UnaryCalc<T> {
+        T apply(T x) throws EvaluatingException;
+    }
+
+    private interface BinaryCalc<T> {
+        T apply(T x, T y) throws EvaluatingException;
+    }
+
+    private E fold(final E x, final UnaryCalc<T> calc) {
+        if (constants.containsKey(x)) {
+            try {
+                return constant(calc.apply(constants.get(x)));
+            } catch (EvaluatingException | ArithmeticException ignored) {
+            }
+        }
+        return null;
+    }
+
+    private E fold(final E x, final E y, final BinaryCalc<T> calc) {
+        if (constants.containsKey(x) && constants.containsKey(y)) {
+            try {
+                return constant(calc.apply(constants.get(x), constants.get(y)));
+            } catch (EvaluatingException | ArithmeticException ignored) {
+            }
+        }
+        return null;
+    }
+
+    public E negate(final E x) {
+        E res = fold(x, operations::negate);
+        return res != null ? res : factory.negate(x);
+    }
+
+    public E abs(final E x) {
+        E res = fold(x, operations::abs);
+        return res != null ? res : factory.abs(x);
+    }
+
+    public E sqr(final E x) {
+        E res = fold(x, operations::sqr);
+        return res != null ? res : factory.sqr(x);
+    }
+
+    public E add(final E x, final E y) {
+        if (!signedZero && isConst(y, zero)) {
+            return x;
+        }
+        if (!signedZero && isConst(x, zero)) {
+            return y;
+        }
+        E res = fold(x, y, operations::add);
+        return res != null ? res : factory.add(x, y);
+    }
+
+    public E subtract(final E x, final E y) {
+        if (isConst(y, zero)) {
+            return x;
+        }
+        E res = fold(x, y, operations::subtract);
+        return res != null ? res : factory.subtract(x, y);
+    }
+
+    public E multiply(final E x, final E y) {
+        if (isConst(y, one)) {
+            return x;
+        }
+        if (isConst(x, one)) {
+            return y;
+        }
+        E res = fold(x, y, operations::multiply);
+        return res != null ? res : factory.multiply(x, y);
+    }
+
+    public E divide(final E x, final E y) {
+        if (isConst(y, one)) {
+            return x;
+        }
+        E res = fold(x, y, operations::divide);
+        return res != null ? res : factory.divide(x, y);
+    }
+
+    public E mod(final E x, final E y) {
+        E res = fold(x, y, operations::mod);
+        return res != null ? res : factory.mod(x, y);
+    }
+}
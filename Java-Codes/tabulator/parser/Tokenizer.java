@@ -3,8 +3,9 @@ package expression.parser;
 import expression.exceptions.*;
 import expression.operations.Operations;
 
-import java.util.HashMap;
-import java.util.HashSet;
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.Set;
 
 public class Tokenizer<T> {
     private String expression;
@@ -13,9 +14,8 @@ public class Tokenizer<T> {
     private Token curToken;
     private char varName;
     private Operations<T> operations;
-    private static HashSet<Token> unaryOperations = new HashSet<>();
-    private static HashSet<Token> binaryOperations = new HashSet<>();
-    private static HashMap<String, Token> identifiers = new HashMap<>();
+    private static final Set<Token> unaryOperations;
+    private static final Set<Token> binaryOperations;
 
     Tokenizer(final String newExpression, final Operations<T> op) {
         expression = newExpression;
@@ -25,21 +25,8 @@ public class Tokenizer<T> {
     }
 
     static {
-        identifiers.put("x", Token.VARIABLE);
-        identifiers.put("y", Token.VARIABLE);
-        identifiers.put("z", Token.VARIABLE);
-        identifiers.put("abs", Token.ABS);
-        identifiers.put("mod", Token.MOD);
-        identifiers.put("square", Token.SQR);
-
-        unaryOperations.add(Token.ABS);
-        unaryOperations.add(Token.SQR);
-
-        binaryOperations.add(Token.MOD);
-        binaryOperations.add(Token.ADD);
-        binaryOperations.add(Token.SUB);
-        binaryOperations.add(Token.MUL);
-        binaryOperations.add(Token.DIV);
+        unaryOperations = Collections.unmodifiableSet(EnumSet.of(Token.ABS, Token.SQR));
+        binaryOperations = Collections.unmodifiableSet(EnumSet.of(Token.MOD, Token.ADD, Token.SUB, Token.MUL, Token.DIV));
     }
 
     public String getExpression() {
@@ -77,24 +64,46 @@ public class Tokenizer<T> {
         return Character.isDigit(c) || c == '.' || c == 'e';
     }
 
-    private String getNumber() {
+    private T getNumber(final boolean negative) throws IncorrectConstException {
         int l = ind;
+        long res = 0;
+        boolean simple = true;
         while (ind < expression.length() && isPartOfNumber(expression.charAt(ind))) {
-            ++ind;
+            char c = expression.charAt(ind++);
+            if (simple && '0' <= c && c <= '9' && res <= Integer.MAX_VALUE) {
+                res = res * 10 + c - '0';
+            } else {
+                simple = false;
+            }
         }
-        return expression.substring(l, ind--);
+        int r = ind--;
+        if (simple && !(negative && res == 0) && res <= (negative ? -(long) Integer.MIN_VALUE : Integer.MAX_VALUE)) {
+            return operations.fromInt((int) (negative ? -res : res));
+        }
+        return operations.parseNumber((negative ? "-" : "") + expression.substring(l, r));
     }
 
     private boolean isPartOfIdentifier(final char c) {
         return Character.isLetterOrDigit(c);
     }
 
-    private String getIdentifier() {
+    private Token getIdentifier() {
         int l = ind;
         while (ind < expression.length() && isPartOfIdentifier(expression.charAt(ind))) {
             ++ind;
         }
-        return expression.substring(l, ind--);
+        int r = ind--;
+        switch (r - l) {
+            case 1:
+                char c = expression.charAt(l);
+                return c == 'x' || c == 'y' || c == 'z' ? Token.VARIABLE : null;
+            case 3:
+                return expression.startsWith("abs", l) ? Token.ABS : expression.startsWith("mod", l) ? Token.MOD : null;
+            case 6:
+                return expression.startsWith("square", l) ? Token.SQR : null;
+            default:
+                return null;
+        }
     }
 
     private void checkForOperand() throws MissingOperandException {
@@ -139,7 +148,7 @@ public class Tokenizer<T> {
                     } else {
                         if (isPartOfNumber(expression.charAt(ind + 1))) {
                             ind++;
-                            value = operations.parseNumber("-" + getNumber());
+                            value = getNumber(true);
                             curToken = Token.NUMBER;
                         } else {
                             curToken = Token.SUB;
@@ -167,21 +176,22 @@ public class Tokenizer<T> {
             default:
                 if (Character.isDigit(c)) {
                     checkForOperation();
-                    value = operations.parseNumber(getNumber());
+                    value = getNumber(false);
                     curToken = Token.NUMBER;
                 } else {
-                    String cur = getIdentifier();
-                    if (!identifiers.containsKey(cur)) {
-                        throw new UnknownOperationException("Unknown function in expression \"" + cur + "\"", expression, ind - cur.length() + 1);
+                    int l = ind;
+                    Token token = getIdentifier();
+                    if (token == null) {
+                        throw new UnknownOperationException("Unknown function in expression \"" + expression.substring(l, ind + 1) + "\"", expression, l);
                     }
-                    if (binaryOperations.contains(identifiers.get(cur))) {
+                    if (binaryOperations.contains(token)) {
                         checkForOperand();
                     } else {
                         checkForOperation();
                     }
-                    curToken = identifiers.get(cur);
+                    curToken = token;
                     if (curToken == Token.VARIABLE) {
-                        varName = cur.charAt(0);
+                        varName = c;
                     }
                 }
         }
@@ -0,0 +1,87 @@
+package expression.parser;
+
+import expression.exceptions.ParsingException;
+import expression.exceptions.UnpairedBracketsException;
+import expression.operations.Operations;
+
+public class TreeParser<T, E> {
+    private final Operations<T> operations;
+    private final ExpressionFactory<? super T, E> factory;
+
+    public TreeParser(Operations<T> op, ExpressionFactory<? super T, E> newFactory) {
+        operations = op;
+        factory = newFactory;
+    }
+
+    private E unaryOperations(final Tokenizer<T> tokenizer, final ExpressionFactory<T, E> nodes) throws ParsingException {
+        E res;
+        switch (tokenizer.getNextToken()) {
+            case NUMBER:
+                res = nodes.constant(tokenizer.getValue());
+                tokenizer.getNextToken();
+                break;
+            case VARIABLE:
+                res = nodes.variable(tokenizer.getVarName());
+                tokenizer.getNextToken();
+                break;
+            case SUB:
+                res = nodes.negate(unaryOperations(tokenizer, nodes));
+                break;
+            case SQR:
+                res = nodes.sqr(unaryOperations(tokenizer, nodes));
+                break;
+            case ABS:
+                res = nodes.abs(unaryOperations(tokenizer, nodes));
+                break;
+            case OPEN_BRACKET:
+                res = addAndSub(tokenizer, nodes);
+                if (tokenizer.getCurToken() != Token.CLOSE_BRACKET) {
+                    throw new UnpairedBracketsException("There is unpaired open bracket in a expression", tokenizer.getExpression(), tokenizer.getInd());
+                }
+                tokenizer.getNextToken();
+                break;
+            default:
+                throw new ParsingException("Incorrect expression", tokenizer.getExpression(), tokenizer.getInd());
+        }
+        return res;
+    }
+
+    private E mulAndDiv(final Tokenizer<T> tokenizer, final ExpressionFactory<T, E> nodes) throws ParsingException {
+        E res = unaryOperations(tokenizer, nodes);
+        for (; ; ) {
+            switch (tokenizer.getCurToken()) {
+                case MUL:
+                    res = nodes.multiply(res, unaryOperations(tokenizer, nodes));
+                    break;
+                case DIV:
+                    res = nodes.divide(res, unaryOperations(tokenizer, nodes));
+                    break;
+                case MOD:
+                    res = nodes.mod(res, unaryOperations(tokenizer, nodes));
+                    break;
+                default:
+                    return res;
+            }
+        }
+    }
+
+    private E addAndSub(final Tokenizer<T> tokenizer, final ExpressionFactory<T, E> nodes) throws ParsingException {
+        E res = mulAndDiv(tokenizer, nodes);
+        for (; ; ) {
+            switch (tokenizer.getCurToken()) {
+                case ADD:
+                    res = nodes.add(res, mulAndDiv(tokenizer, nodes));
+                    break;
+                case SUB:
+                    res = nodes.subtract(res, mulAndDiv(tokenizer, nodes));
+                    break;
+                default:
+                    return res;
+            }
+        }
+    }
+
+    public E parse(final String expression) throws ParsingException {
+        return addAndSub(new Tokenizer<>(expression, operations), new FoldingExpressionFactory<>(operations, factory));
+    }
+}
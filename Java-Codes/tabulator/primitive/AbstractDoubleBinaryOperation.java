@@ -0,0 +1,36 @@
+package expression.primitive;
+
+import expression.operations.DoubleOps;
+
+public abstract class AbstractDoubleBinaryOperation implements DoubleExpression {
+    private final DoubleExpression first, second;
+    private final int variables;
+    protected final DoubleOps operations;
+
+    AbstractDoubleBinaryOperation(final DoubleExpression a, final DoubleExpression b, final DoubleOps op) {
+        first = a;
+        second = b;
+        operations = op;
+        variables = a.variables() | b.variables();
+    }
+
+    protected abstract double calc(final double x, final double y);
+
+    public double evaluate(final double x, final double y, final double z) {
+        return calc(first.evaluate(x, y, z), second.evaluate(x, y, z));
+    }
+
+    protected abstract DoubleExpression rebuild(final DoubleExpression a, final DoubleExpression b);
+
+    public int variables() {
+        return variables;
+    }
+
+    public DoubleExpression fix(final int keep, final double x, final double y, final double z) {
+        if ((variables & keep) == 0) {
+            return new DoubleConst(evaluate(x, y, z));
+        }
+        DoubleExpression a = first.fix(keep, x, y, z), b = second.fix(keep, x, y, z);
+        return a == first && b == second ? this : rebuild(a, b);
+    }
+}
@@ -0,0 +1,35 @@
+package expression.primitive;
+
+import expression.operations.DoubleOps;
+
+public abstract class AbstractDoubleUnaryOperation implements DoubleExpression {
+    private final DoubleExpression first;
+    private final int variables;
+    protected final DoubleOps operations;
+
+    AbstractDoubleUnaryOperation(final DoubleExpression a, final DoubleOps op) {
+        first = a;
+        operations = op;
+        variables = a.variables();
+    }
+
+    protected abstract double calc(final double x);
+
+    public double evaluate(final double x, final double y, final double z) {
+        return calc(first.evaluate(x, y, z));
+    }
+
+    protected abstract DoubleExpression rebuild(final DoubleExpression a);
+
+    public int variables() {
+        return variables;
+    }
+
+    public DoubleExpression fix(final int keep, final double x, final double y, final double z) {
+        if ((variables & keep) == 0) {
+            return new DoubleConst(evaluate(x, y, z));
+        }
+        DoubleExpression a = first.fix(keep, x, y, z);
+        return a == first ? this : rebuild(a);
+    }
+}
@@ -0,0 +1,77 @@
+package expression.primitive;
+
+import expression.exceptions.EvaluatingException;
+import expression.operations.IntOperations;
+
+public abstract class AbstractIntBinaryOperation implements IntExpression {
+    private final IntExpression first, second;
+    private final int variables;
+    protected final IntOperations operations;
+
+    AbstractIntBinaryOperation(final IntExpression a, final IntExpression b, final IntOperations op) {
+        first = a;
+        second = b;
+        operations = op;
+        variables = a.variables() | b.variables();
+    }
+
+    protected abstract int calc(final int x, final int y) throws EvaluatingException;
+
+    public int evaluate(final int x, final int y, final int z) throws EvaluatingException {
+        return calc(first.evaluate(x, y, z), second.evaluate(x, y, z));
+    }
+
+    protected abstract IntExpression rebuild(final IntExpression a, final IntExpression b, final IntOperations op);
+
+    /**
+     * Stores into {@code res} the bounds of the exact result for arguments within {@code a} and {@code b}
+     * and returns whether the operation can't fail for such arguments.
+     */
+    protected abstract boolean range(final long[] a, final long[] b, final long[] res);
+
+    public int variables() {
+        return variables;
+    }
+
+    public IntExpression fix(final int keep, final int x, final int y, final int z) {
+        if ((variables & keep) == 0) {
+            try {
+                return new IntConst(evaluate(x, y, z));
+            } catch (EvaluatingException | ArithmeticException e) {
+                return this;
+            }
+        }
+        IntExpression a = first.fix(keep, x, y, z), b = second.fix(keep, x, y, z);
+        return a == first && b == second ? this : rebuild(a, b, operations);
+    }
+
+    public IntExpression relax(final IntOperations unchecked, final int[] bounds, final long[] range) {
+        long[] ra = new long[2], rb = new long[2];
+        IntExpression a = first.relax(unchecked, bounds, ra), b = second.relax(unchecked, bounds, rb);
+        if (range(ra, rb, range)) {
+            return rebuild(a, b, unchecked);
+        }
+        clip(range);
+        return a == first && b == second ? this : rebuild(a, b, operations);
+    }
+
+    static boolean fits(final long[] range) {
+        return Integer.MIN_VALUE <= range[0] && range[1] <= Integer.MAX_VALUE;
+    }
+
+    static void clip(final long[] range) {
+        range[0] = Math.max(range[0], Integer.MIN_VALUE);
+        range[1] = Math.min(range[1], Integer.MAX_VALUE);
+        if (range[0] > range[1]) {
+            range[0] = range[1] = 0;
+        }
+    }
+
+    static void corners(final long[] res, final long... values) {
+        res[0] = res[1] = values[0];
+        for (long value : values) {
+            res[0] = Math.min(res[0], value);
+            res[1] = Math.max(res[1], value);
+        }
+    }
+}
@@ -0,0 +1,56 @@
+package expression.primitive;
+
+import expression.exceptions.EvaluatingException;
+import expression.operations.IntOperations;
+
+public abstract class AbstractIntUnaryOperation implements IntExpression {
+    private final IntExpression first;
+    private final int variables;
+    protected final IntOperations operations;
+
+    AbstractIntUnaryOperation(final IntExpression a, final IntOperations op) {
+        first = a;
+        operations = op;
+        variables = a.variables();
+    }
+
+    protected abstract int calc(final int x) throws EvaluatingException;
+
+    public int evaluate(final int x, final int y, final int z) throws EvaluatingException {
+        return calc(first.evaluate(x, y, z));
+    }
+
+    protected abstract IntExpression rebuild(final IntExpression a, final IntOperations op);
+
+    /**
+     * Stores into {@code res} the bounds of the exact result for arguments within {@code a}
+     * and returns whether the operation can't fail for such arguments.
+     */
+    protected abstract boolean range(final long[] a, final long[] res);
+
+    public int variables() {
+        return variables;
+    }
+
+    public IntExpression fix(final int keep, final int x, final int y, final int z) {
+        if ((variables & keep) == 0) {
+            try {
+                return new IntConst(evaluate(x, y, z));
+            } catch (EvaluatingException | ArithmeticException e) {
+                return this;
+            }
+        }
+        IntExpression a = first.fix(keep, x, y, z);
+        return a == first ? this : rebuild(a, operations);
+    }
+
+    public IntExpression relax(final IntOperations unchecked, final int[] bounds, final long[] range) {
+        long[] ra = new long[2];
+        IntExpression a = first.relax(unchecked, bounds, ra);
+        if (range(ra, range)) {
+            return rebuild(a, unchecked);
+        }
+        AbstractIntBinaryOperation.clip(range);
+        return a == first ? this : rebuild(a, operations);
+    }
+}
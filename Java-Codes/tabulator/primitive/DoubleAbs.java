@@ -0,0 +1,17 @@
+package expression.primitive;
+
+import expression.operations.DoubleOps;
+
+public class DoubleAbs extends AbstractDoubleUnaryOperation {
+    public DoubleAbs(final DoubleExpression a, final DoubleOps op) {
+        super(a, op);
+    }
+
+    protected double calc(final double x) {
+        return operations.abs(x);
+    }
+
+    protected DoubleExpression rebuild(final DoubleExpression a) {
+        return new DoubleAbs(a, operations);
+    }
+}
@@ -0,0 +1,21 @@
+package expression.primitive;
+
+public class DoubleConst implements DoubleExpression {
+    private final double value;
+
+    public DoubleConst(final double newValue) {
+        value = newValue;
+    }
+
+    public double evaluate(final double x, final double y, final double z) {
+        return value;
+    }
+
+    public int variables() {
+        return 0;
+    }
+
+    public DoubleExpression fix(final int keep, final double x, final double y, final double z) {
+        return this;
+    }
+}
@@ -0,0 +1,17 @@
+package expression.primitive;
+
+import expression.operations.DoubleOps;
+
+public class DoubleDivide extends AbstractDoubleBinaryOperation {
+    public DoubleDivide(final DoubleExpression a, final DoubleExpression b, final DoubleOps op) {
+        super(a, b, op);
+    }
+
+    protected double calc(final double x, final double y) {
+        return operations.divide(x, y);
+    }
+
+    protected DoubleExpression rebuild(final DoubleExpression a, final DoubleExpression b) {
+        return new DoubleDivide(a, b, operations);
+    }
+}
@@ -0,0 +1,18 @@
+package expression.primitive;
+
+public interface DoubleExpression {
+    int X = 1, Y = 2, Z = 4;
+
+    double evaluate(final double x, final double y, final double z);
+
+    /**
+     * Returns the set of variables the expression depends on as a mask of {@link #X}, {@link #Y} and {@link #Z}.
+     */
+    int variables();
+
+    /**
+     * Returns an expression equal to this one at every point that agrees with {@code (x, y, z)}
+     * on the variables outside {@code keep}: subtrees that don't depend on {@code keep} are replaced by their values.
+     */
+    DoubleExpression fix(final int keep, final double x, final double y, final double z);
+}
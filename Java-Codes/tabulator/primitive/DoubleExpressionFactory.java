@@ -0,0 +1,52 @@
+package expression.primitive;
+
+import expression.operations.DoubleOps;
+import expression.parser.ExpressionFactory;
+
+public class DoubleExpressionFactory implements ExpressionFactory<Number, DoubleExpression> {
+    private final DoubleOps operations;
+
+    public DoubleExpressionFactory(final DoubleOps op) {
+        operations = op;
+    }
+
+    public DoubleExpression constant(final Number value) {
+        return new DoubleConst(value.doubleValue());
+    }
+
+    public DoubleExpression variable(final char name) {
+        return new DoubleVariable(name);
+    }
+
+    public DoubleExpression negate(final DoubleExpression x) {
+        return new DoubleNegate(x, operations);
+    }
+
+    public DoubleExpression abs(final DoubleExpression x) {
+        return new DoubleAbs(x, operations);
+    }
+
+    public DoubleExpression sqr(final DoubleExpression x) {
+        return new DoubleSqr(x, operations);
+    }
+
+    public DoubleExpression add(final DoubleExpression x, final DoubleExpression y) {
+        return new DoubleAdd(x, y, operations);
+    }
+
+    public DoubleExpression subtract(final DoubleExpression x, final DoubleExpression y) {
+        return new DoubleSubtract(x, y, operations);
+    }
+
+    public DoubleExpression multiply(final DoubleExpression x, final DoubleExpression y) {
+        return new DoubleMultiply(x, y, operations);
+    }
+
+    public DoubleExpression divide(final DoubleExpression x, final DoubleExpression y) {
+        return new DoubleDivide(x, y, operations);
+    }
+
+    public DoubleExpression mod(final DoubleExpression x, final DoubleExpression y) {
+        return new DoubleMod(x, y, operations);
+    }
+}
@@ -0,0 +1,17 @@
+package expression.primitive;
+
+import expression.operations.DoubleOps;
+
+public class DoubleMod extends AbstractDoubleBinaryOperation {
+    public DoubleMod(final DoubleExpression a, final DoubleExpression b, final DoubleOps op) {
+        super(a, b, op);
+    }
+
+    protected double calc(final double x, final double y) {
+        return operations.mod(x, y);
+    }
+
+    protected DoubleExpression rebuild(final DoubleExpression a, final DoubleExpression b) {
+        return new DoubleMod(a, b, operations);
+    }
+}
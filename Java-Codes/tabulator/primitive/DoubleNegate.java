@@ -0,0 +1,17 @@
+package expression.primitive;
+
+import expression.operations.DoubleOps;
+
+public class DoubleNegate extends AbstractDoubleUnaryOperation {
+    public DoubleNegate(final DoubleExpression a, final DoubleOps op) {
+        super(a, op);
+    }
+
+    protected double calc(final double x) {
+        return operations.negate(x);
+    }
+
+    protected DoubleExpression rebuild(final DoubleExpression a) {
+        return new DoubleNegate(a, operations);
+    }
+}
@@ -0,0 +1,17 @@
+package expression.primitive;
+
+import expression.operations.DoubleOps;
+
+public class DoubleSqr extends AbstractDoubleUnaryOperation {
+    public DoubleSqr(final DoubleExpression a, final DoubleOps op) {
+        super(a, op);
+    }
+
+    protected double calc(final double x) {
+        return operations.sqr(x);
+    }
+
+    protected DoubleExpression rebuild(final DoubleExpression a) {
+        return new DoubleSqr(a, operations);
+    }
+}
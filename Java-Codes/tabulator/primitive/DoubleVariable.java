@@ -0,0 +1,39 @@
+package expression.primitive;
+
+public class DoubleVariable implements DoubleExpression {
+    private final char name;
+
+    public DoubleVariable(final char newName) {
+        name = newName;
+    }
+
+    public double evaluate(final double x, final double y, final double z) {
+        switch (name) {
+            case 'x':
+                return x;
+            case 'y':
+                return y;
+            case 'z':
+                return z;
+            default:
+                return 0;
+        }
+    }
+
+    public int variables() {
+        switch (name) {
+            case 'x':
+                return X;
+            case 'y':
+                return Y;
+            case 'z':
+                return Z;
+            default:
+                return 0;
+        }
+    }
+
+    public DoubleExpression fix(final int keep, final double x, final double y, final double z) {
+        return (variables() & keep) == 0 ? new DoubleConst(evaluate(x, y, z)) : this;
+    }
+}
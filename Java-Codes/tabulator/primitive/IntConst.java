@@ -0,0 +1,28 @@
+package expression.primitive;
+
+import expression.operations.IntOperations;
+
+public class IntConst implements IntExpression {
+    private final int value;
+
+    public IntConst(final int newValue) {
+        value = newValue;
+    }
+
+    public int evaluate(final int x, final int y, final int z) {
+        return value;
+    }
+
+    public int variables() {
+        return 0;
+    }
+
+    public IntExpression fix(final int keep, final int x, final int y, final int z) {
+        return this;
+    }
+
+    public IntExpression relax(final IntOperations unchecked, final int[] bounds, final long[] range) {
+        range[0] = range[1] = value;
+        return this;
+    }
+}
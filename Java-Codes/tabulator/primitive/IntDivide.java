@@ -0,0 +1,29 @@
+package expression.primitive;
+
+import expression.exceptions.EvaluatingException;
+import expression.operations.IntOperations;
+
+public class IntDivide extends AbstractIntBinaryOperation {
+    public IntDivide(final IntExpression a, final IntExpression b, final IntOperations op) {
+        super(a, b, op);
+    }
+
+    protected int calc(final int x, final int y) throws EvaluatingException {
+        return operations.divide(x, y);
+    }
+
+    protected IntExpression rebuild(final IntExpression a, final IntExpression b, final IntOperations op) {
+        return new IntDivide(a, b, op);
+    }
+
+    protected boolean range(final long[] a, final long[] b, final long[] res) {
+        if (b[0] <= 0 && 0 <= b[1]) {
+            long m = Math.max(Math.abs(a[0]), Math.abs(a[1]));
+            res[0] = -m;
+            res[1] = m;
+            return false;
+        }
+        corners(res, a[0] / b[0], a[0] / b[1], a[1] / b[0], a[1] / b[1]);
+        return fits(res);
+    }
+}
@@ -0,0 +1,28 @@
+package expression.primitive;
+
+import expression.exceptions.EvaluatingException;
+import expression.operations.IntOperations;
+
+public interface IntExpression {
+    int X = 1, Y = 2, Z = 4;
+
+    int evaluate(final int x, final int y, final int z) throws EvaluatingException;
+
+    /**
+     * Returns the set of variables the expression depends on as a mask of {@link #X}, {@link #Y} and {@link #Z}.
+     */
+    int variables();
+
+    /**
+     * Returns an expression equal to this one at every point that agrees with {@code (x, y, z)}
+     * on the variables outside {@code keep}: subtrees that don't depend on {@code keep} are replaced by their values.
+     */
+    IntExpression fix(final int keep, final int x, final int y, final int z);
+
+    /**
+     * Returns an equal expression in which operations that can't fail while every variable stays within {@code bounds}
+     * ({@code {xMin, xMax, yMin, yMax, zMin, zMax}}) use {@code unchecked} operations.
+     * Stores the bounds of the expression's value into {@code range}.
+     */
+    IntExpression relax(final IntOperations unchecked, final int[] bounds, final long[] range);
+}
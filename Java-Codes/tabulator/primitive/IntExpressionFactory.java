@@ -0,0 +1,52 @@
+package expression.primitive;
+
+import expression.operations.IntOperations;
+import expression.parser.ExpressionFactory;
+
+public class IntExpressionFactory implements ExpressionFactory<Number, IntExpression> {
+    private final IntOperations operations;
+
+    public IntExpressionFactory(final IntOperations op) {
+        operations = op;
+    }
+
+    public IntExpression constant(final Number value) {
+        return new IntConst(value.intValue());
+    }
+
+    public IntExpression variable(final char name) {
+        return new IntVariable(name);
+    }
+
+    public IntExpression negate(final IntExpression x) {
+        return new IntNegate(x, operations);
+    }
+
+    public IntExpression abs(final IntExpression x) {
+        return new IntAbs(x, operations);
+    }
+
+    public IntExpression sqr(final IntExpression x) {
+        return new IntSqr(x, operations);
+    }
+
+    public IntExpression add(final IntExpression x, final IntExpression y) {
+        return new IntAdd(x, y, operations);
+    }
+
+    public IntExpression subtract(final IntExpression x, final IntExpression y) {
+        return new IntSubtract(x, y, operations);
+    }
+
+    public IntExpression multiply(final IntExpression x, final IntExpression y) {
+        return new IntMultiply(x, y, operations);
+    }
+
+    public IntExpression divide(final IntExpression x, final IntExpression y) {
+        return new IntDivide(x, y, operations);
+    }
+
+    public IntExpression mod(final IntExpression x, final IntExpression y) {
+        return new IntMod(x, y, operations);
+    }
+}
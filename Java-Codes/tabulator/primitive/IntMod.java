@@ -0,0 +1,25 @@
+package expression.primitive;
+
+import expression.exceptions.EvaluatingException;
+import expression.operations.IntOperations;
+
+public class IntMod extends AbstractIntBinaryOperation {
+    public IntMod(final IntExpression a, final IntExpression b, final IntOperations op) {
+        super(a, b, op);
+    }
+
+    protected int calc(final int x, final int y) throws EvaluatingException {
+        return operations.mod(x, y);
+    }
+
+    protected IntExpression rebuild(final IntExpression a, final IntExpression b, final IntOperations op) {
+        return new IntMod(a, b, op);
+    }
+
+    protected boolean range(final long[] a, final long[] b, final long[] res) {
+        long m = Math.max(Math.max(Math.abs(b[0]), Math.abs(b[1])) - 1, 0);
+        res[0] = a[0] < 0 ? -Math.min(-a[0], m) : 0;
+        res[1] = a[1] > 0 ? Math.min(a[1], m) : 0;
+        return b[0] > 0 || b[1] < 0;
+    }
+}
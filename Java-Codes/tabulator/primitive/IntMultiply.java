@@ -0,0 +1,23 @@
+package expression.primitive;
+
+import expression.exceptions.EvaluatingException;
+import expression.operations.IntOperations;
+
+public class IntMultiply extends AbstractIntBinaryOperation {
+    public IntMultiply(final IntExpression a, final IntExpression b, final IntOperations op) {
+        super(a, b, op);
+    }
+
+    protected int calc(final int x, final int y) throws EvaluatingException {
+        return operations.multiply(x, y);
+    }
+
+    protected IntExpression rebuild(final IntExpression a, final IntExpression b, final IntOperations op) {
+        return new IntMultiply(a, b, op);
+    }
+
+    protected boolean range(final long[] a, final long[] b, final long[] res) {
+        corners(res, a[0] * b[0], a[0] * b[1], a[1] * b[0], a[1] * b[1]);
+        return fits(res);
+    }
+}
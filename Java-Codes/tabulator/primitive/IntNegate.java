@@ -0,0 +1,24 @@
+package expression.primitive;
+
+import expression.exceptions.EvaluatingException;
+import expression.operations.IntOperations;
+
+public class IntNegate extends AbstractIntUnaryOperation {
+    public IntNegate(final IntExpression a, final IntOperations op) {
+        super(a, op);
+    }
+
+    protected int calc(final int x) throws EvaluatingException {
+        return operations.negate(x);
+    }
+
+    protected IntExpression rebuild(final IntExpression a, final IntOperations op) {
+        return new IntNegate(a, op);
+    }
+
+    protected boolean range(final long[] a, final long[] res) {
+        res[0] = -a[1];
+        res[1] = -a[0];
+        return AbstractIntBinaryOperation.fits(res);
+    }
+}
@@ -0,0 +1,32 @@
+package expression.primitive;
+
+import expression.exceptions.EvaluatingException;
+import expression.operations.IntOperations;
+
+public class IntSqr extends AbstractIntUnaryOperation {
+    public IntSqr(final IntExpression a, final IntOperations op) {
+        super(a, op);
+    }
+
+    protected int calc(final int x) throws EvaluatingException {
+        return operations.sqr(x);
+    }
+
+    protected IntExpression rebuild(final IntExpression a, final IntOperations op) {
+        return new IntSqr(a, op);
+    }
+
+    protected boolean range(final long[] a, final long[] res) {
+        if (a[0] >= 0) {
+            res[0] = a[0] * a[0];
+            res[1] = a[1] * a[1];
+        } else if (a[1] <= 0) {
+            res[0] = a[1] * a[1];
+            res[1] = a[0] * a[0];
+        } else {
+            res[0] = 0;
+            res[1] = Math.max(a[0] * a[0], a[1] * a[1]);
+        }
+        return AbstractIntBinaryOperation.fits(res);
+    }
+}
@@ -0,0 +1,24 @@
+package expression.primitive;
+
+import expression.exceptions.EvaluatingException;
+import expression.operations.IntOperations;
+
+public class IntSubtract extends AbstractIntBinaryOperation {
+    public IntSubtract(final IntExpression a, final IntExpression b, final IntOperations op) {
+        super(a, b, op);
+    }
+
+    protected int calc(final int x, final int y) throws EvaluatingException {
+        return operations.subtract(x, y);
+    }
+
+    protected IntExpression rebuild(final IntExpression a, final IntExpression b, final IntOperations op) {
+        return new IntSubtract(a, b, op);
+    }
+
+    protected boolean range(final long[] a, final long[] b, final long[] res) {
+        res[0] = a[0] - b[1];
+        res[1] = a[1] - b[0];
+        return fits(res);
+    }
+}
@@ -0,0 +1,52 @@
+package expression.primitive;
+
+import expression.operations.IntOperations;
+
+public class IntVariable implements IntExpression {
+    private final char name;
+
+    public IntVariable(final char newName) {
+        name = newName;
+    }
+
+    public int evaluate(final int x, final int y, final int z) {
+        switch (name) {
+            case 'x':
+                return x;
+            case 'y':
+                return y;
+            case 'z':
+                return z;
+            default:
+                return 0;
+        }
+    }
+
+    public int variables() {
+        switch (name) {
+            case 'x':
+                return X;
+            case 'y':
+                return Y;
+            case 'z':
+                return Z;
+            default:
+                return 0;
+        }
+    }
+
+    public IntExpression fix(final int keep, final int x, final int y, final int z) {
+        return (variables() & keep) == 0 ? new IntConst(evaluate(x, y, z)) : this;
+    }
+
+    public IntExpression relax(final IntOperations unchecked, final int[] bounds, final long[] range) {
+        int index = Integer.numberOfTrailingZeros(variables());
+        if (index < 3) {
+            range[0] = bounds[2 * index];
+            range[1] = bounds[2 * index + 1];
+        } else {
+            range[0] = range[1] = 0;
+        }
+        return this;
+    }
+}